@@ -0,0 +1,80 @@
+package com.fintech.account.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gradient based concurrency limit. The limit grows while the observed latency stays close to
+ * the long-term average and shrinks as soon as requests start queueing on the connection pool.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double longRttDecay;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longRtt;
+
+    /**
+     * @param longWindow number of samples the baseline latency averages over; it has to be long
+     *                   enough that sustained queueing does not become the new baseline
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double smoothing, int longWindow) {
+        this.minLimit = Math.min(minLimit, maxLimit);
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(this.minLimit, Math.min(maxLimit, initialLimit));
+        this.smoothing = smoothing;
+        this.longRttDecay = 2.0 / (longWindow + 1);
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        onSample(rttNanos, inFlightAtCompletion);
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtCompletion) {
+        if (rttNanos <= 0) {
+            return;
+        }
+
+        if (longRtt == 0) {
+            longRtt = rttNanos;
+        } else {
+            longRtt = longRtt * (1 - longRttDecay) + rttNanos * longRttDecay;
+            // Latency fell well below the baseline: catch up quickly instead of over many samples
+            if (longRtt / rttNanos > 2) {
+                longRtt *= 0.95;
+            }
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, longRtt / rttNanos));
+        // Only probe for more capacity while the current limit is actually being used
+        double queueSize = inFlightAtCompletion >= limit / 2 ? Math.sqrt(limit) : 0;
+        double newLimit = limit * gradient + queueSize;
+
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,65 @@
+package com.fintech.account.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.security.Principal;
+import java.util.Map;
+
+@Component
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".start";
+
+    private final AdmissionService admissionService;
+    private final AdmissionProperties properties;
+
+    public AdmissionInterceptor(AdmissionService admissionService, AdmissionProperties properties) {
+        this.admissionService = admissionService;
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!properties.enabled()) {
+            return true;
+        }
+
+        admissionService.admit(resolveClientId(request), resolveAccountId(request));
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(START_ATTRIBUTE) instanceof Long start) {
+            admissionService.release(start);
+        }
+    }
+
+    // The client header is only believed from the gateway; anyone else could rotate it to get a fresh bucket
+    private String resolveClientId(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return principal.getName();
+        }
+
+        String remoteAddress = request.getRemoteAddr();
+        if (properties.trustedProxies().contains(remoteAddress)) {
+            String clientId = request.getHeader(properties.clientHeader());
+            if (clientId != null && !clientId.isBlank()) {
+                return clientId;
+            }
+        }
+        return remoteAddress;
+    }
+
+    @SuppressWarnings("unchecked")
+    private String resolveAccountId(HttpServletRequest request) {
+        Map<String, String> variables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return variables != null ? variables.get("accountId") : null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.fintech.account.admission;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * @param clientHeader   header the gateway sets to the authenticated client; only read on requests
+ *                       coming from one of the {@code trustedProxies}
+ * @param trustedProxies addresses of the gateways allowed to assert the client header
+ */
+@ConfigurationProperties(prefix = "admission")
+public record AdmissionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("X-Client-Id") String clientHeader,
+        @DefaultValue Set<String> trustedProxies,
+        @DefaultValue Bucket client,
+        @DefaultValue Bucket account,
+        @DefaultValue Concurrency concurrency,
+        @DefaultValue("10m") Duration idleEviction
+) {
+
+    /**
+     * @param maxTracked keys with their own bucket; keys seen once the map is full share one overflow bucket
+     */
+    public record Bucket(
+            @DefaultValue("200") int capacity,
+            @DefaultValue("100") int refillPerSecond,
+            @DefaultValue("10000") int maxTracked
+    ) {}
+
+    /**
+     * @param maxLimit upper bound for the limit, further capped at the connection pool size
+     */
+    public record Concurrency(
+            @DefaultValue("10") int initialLimit,
+            @DefaultValue("2") int minLimit,
+            @DefaultValue("100") int maxLimit,
+            @DefaultValue("0.2") double smoothing,
+            @DefaultValue("1000") int longWindow
+    ) {}
+}
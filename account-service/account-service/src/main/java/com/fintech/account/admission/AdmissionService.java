@@ -0,0 +1,142 @@
+package com.fintech.account.admission;
+
+import com.fintech.account.exception.TooManyRequestsException;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class AdmissionService {
+
+    private static final long MIN_SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final AdmissionProperties properties;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Map<String, TokenBucket> clientBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> accountBuckets = new ConcurrentHashMap<>();
+    private final TokenBucket clientOverflow;
+    private final TokenBucket accountOverflow;
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+
+    private final Counter admitted;
+    private final Counter rejectedByClient;
+    private final Counter rejectedByAccount;
+    private final Counter rejectedByConcurrency;
+
+    public AdmissionService(AdmissionProperties properties, MeterRegistry meterRegistry, ObjectProvider<DataSource> dataSource) {
+        this.properties = properties;
+
+        AdmissionProperties.Concurrency concurrency = properties.concurrency();
+        this.limiter = new AdaptiveConcurrencyLimiter(
+                concurrency.initialLimit(),
+                concurrency.minLimit(),
+                Math.min(concurrency.maxLimit(), poolSize(dataSource)),
+                concurrency.smoothing(),
+                concurrency.longWindow()
+        );
+
+        long now = System.nanoTime();
+        this.clientOverflow = new TokenBucket(properties.client().capacity(), properties.client().refillPerSecond(), now);
+        this.accountOverflow = new TokenBucket(properties.account().capacity(), properties.account().refillPerSecond(), now);
+
+        this.admitted = meterRegistry.counter("admission.requests", "outcome", "admitted");
+        this.rejectedByClient = rejected(meterRegistry, "client");
+        this.rejectedByAccount = rejected(meterRegistry, "account");
+        this.rejectedByConcurrency = rejected(meterRegistry, "concurrency");
+
+        Gauge.builder("admission.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("admission.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .register(meterRegistry);
+        meterRegistry.gaugeMapSize("admission.tracked", List.of(Tag.of("key", "client")), clientBuckets);
+        meterRegistry.gaugeMapSize("admission.tracked", List.of(Tag.of("key", "account")), accountBuckets);
+    }
+
+    public void admit(String clientId, String accountId) {
+        long now = System.nanoTime();
+
+        long clientWait = bucket(clientBuckets, clientOverflow, clientId, properties.client(), now).tryConsume(now);
+        if (clientWait > 0) {
+            rejectedByClient.increment();
+            throw new TooManyRequestsException("Rate limit exceeded for client", toRetryAfter(clientWait));
+        }
+
+        if (accountId != null) {
+            long accountWait = bucket(accountBuckets, accountOverflow, accountId, properties.account(), now).tryConsume(now);
+            if (accountWait > 0) {
+                rejectedByAccount.increment();
+                throw new TooManyRequestsException("Rate limit exceeded for account", toRetryAfter(accountWait));
+            }
+        }
+
+        if (!limiter.tryAcquire()) {
+            rejectedByConcurrency.increment();
+            throw new TooManyRequestsException("Service is overloaded. Please retry.", 1);
+        }
+
+        admitted.increment();
+    }
+
+    public void release(long startNanos) {
+        limiter.release(System.nanoTime() - startNanos);
+    }
+
+    @Scheduled(fixedDelayString = "${admission.idle-eviction:10m}")
+    public void evictIdleBuckets() {
+        evictIdleBuckets(System.nanoTime());
+    }
+
+    private void evictIdleBuckets(long now) {
+        long cutoff = now - properties.idleEviction().toNanos();
+
+        clientBuckets.values().removeIf(bucket -> bucket.getLastAccess() < cutoff);
+        accountBuckets.values().removeIf(bucket -> bucket.getLastAccess() < cutoff);
+        lastSweep.set(now);
+    }
+
+    // Once a map is full, unseen keys share the overflow bucket, so rotating keys cannot mint fresh tokens
+    private TokenBucket bucket(Map<String, TokenBucket> buckets, TokenBucket overflow, String key, AdmissionProperties.Bucket config, long now) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+
+        if (buckets.size() >= config.maxTracked()) {
+            long previousSweep = lastSweep.get();
+            if (now - previousSweep >= MIN_SWEEP_INTERVAL_NANOS && lastSweep.compareAndSet(previousSweep, now)) {
+                evictIdleBuckets(now);
+            }
+            if (buckets.size() >= config.maxTracked()) {
+                return overflow;
+            }
+        }
+
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(config.capacity(), config.refillPerSecond(), now));
+    }
+
+    private static int poolSize(ObjectProvider<DataSource> dataSource) {
+        return dataSource.getIfAvailable() instanceof HikariDataSource hikari
+                ? hikari.getMaximumPoolSize()
+                : Integer.MAX_VALUE;
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String reason) {
+        return meterRegistry.counter("admission.requests", "outcome", "rejected", "reason", reason);
+    }
+
+    private static long toRetryAfter(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+    }
+}
@@ -0,0 +1,42 @@
+package com.fintech.account.admission;
+
+public class TokenBucket {
+
+    private final long capacity;
+    private final double refillPerNano;
+
+    private double tokens;
+    private long lastRefill;
+    private volatile long lastAccess;
+
+    public TokenBucket(long capacity, long refillPerSecond, long now) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefill = now;
+        this.lastAccess = now;
+    }
+
+    /**
+     * Takes one token if available.
+     *
+     * @return 0 when the request is admitted, otherwise the nanos until the next token
+     */
+    public synchronized long tryConsume(long now) {
+        lastAccess = now;
+
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+        lastRefill = now;
+
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+
+        return (long) Math.ceil((1 - tokens) / refillPerNano);
+    }
+
+    public long getLastAccess() {
+        return lastAccess;
+    }
+}
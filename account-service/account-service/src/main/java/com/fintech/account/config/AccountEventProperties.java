@@ -0,0 +1,15 @@
+package com.fintech.account.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param partitions partitions of the balance topic when account-service creates it
+ * @param replicas   replication factor of the balance topic when account-service creates it
+ */
+@ConfigurationProperties(prefix = "account.events")
+public record AccountEventProperties(
+        @DefaultValue("account.balance") String topic,
+        @DefaultValue("3") int partitions,
+        @DefaultValue("1") int replicas
+) {}
@@ -0,0 +1,11 @@
+package com.fintech.account.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "account.import")
+public record AccountImportProperties(
+        @DefaultValue("10000") int chunkSize,
+        @DefaultValue("1000") int batchSize,
+        @DefaultValue("1000") int maxReportedRejections
+) {}
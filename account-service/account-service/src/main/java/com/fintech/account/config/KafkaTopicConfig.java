@@ -0,0 +1,21 @@
+package com.fintech.account.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    // Consumers rebuild their balance view from the start of this topic, so it keeps the latest
+    // event of every account instead of only the events inside the retention period
+    @Bean
+    NewTopic accountBalanceTopic(AccountEventProperties properties) {
+        return TopicBuilder.name(properties.topic())
+                .partitions(properties.partitions())
+                .replicas(properties.replicas())
+                .compact()
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package com.fintech.account.config;
+
+import com.fintech.account.admission.AdmissionService;
+import com.fintech.account.controller.AccountController;
+import com.fintech.account.dto.AccountBalanceEvent;
+import com.fintech.account.dto.AccountCreateDto;
+import com.fintech.account.dto.TransferCompletedEvent;
+import com.fintech.account.model.Account;
+import com.fintech.account.model.Transaction;
+import com.fintech.account.model.TransactionRequest;
+import com.fintech.account.service.AccountEventProducer;
+import com.fintech.account.service.AccountService;
+import com.fintech.account.service.TransferEventProducer;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@RegisterReflectionForBinding({
+        TransferCompletedEvent.class,
+        AccountBalanceEvent.class,
+        AccountCreateDto.class,
+        Account.class,
+        Transaction.class,
+        TransactionRequest.class
+})
+public class StartupConfig {
+
+    // With spring.main.lazy-initialization the money-movement path is still created at boot,
+    // so the first request after a scale-out does not pay for it
+    @Bean
+    static LazyInitializationExcludeFilter eagerRequestPath() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                AccountController.class,
+                AccountService.class,
+                AdmissionService.class,
+                TransferEventProducer.class,
+                AccountEventProducer.class
+        );
+    }
+}
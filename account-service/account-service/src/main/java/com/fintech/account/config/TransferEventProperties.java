@@ -0,0 +1,22 @@
+package com.fintech.account.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "transfer.events")
+public record TransferEventProperties(
+        @DefaultValue("transfer.completed") String topic,
+        @DefaultValue("FROM_ACCOUNT") PartitionKey partitionKey
+) {
+
+    /**
+     * {@code FROM_ACCOUNT} only orders the transfers an account sends: the ones it receives are keyed
+     * by their senders and may sit on other partitions. Consumers that need every balance change of
+     * an account in order read the {@code account.balance} topic, which is keyed by each account.
+     */
+    public enum PartitionKey {
+        FROM_ACCOUNT,
+        TO_ACCOUNT,
+        TRANSACTION
+    }
+}
@@ -0,0 +1,26 @@
+package com.fintech.account.config;
+
+import com.fintech.account.admission.AdmissionInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final AdmissionInterceptor admissionInterceptor;
+
+    public WebConfig(AdmissionInterceptor admissionInterceptor) {
+        this.admissionInterceptor = admissionInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admissionInterceptor)
+                .addPathPatterns(
+                        "/api/v1/accounts/*/deposit",
+                        "/api/v1/accounts/*/withdraw",
+                        "/api/v1/accounts/*/transfer"
+                );
+    }
+}
@@ -1,9 +1,12 @@
 package com.fintech.account.controller;
 
 import com.fintech.account.dto.AccountCreateDto;
+import com.fintech.account.dto.AccountImportReportDto;
 import com.fintech.account.dto.AccountResponseDto;
 import com.fintech.account.dto.TransferRequestDto;
+import com.fintech.account.service.AccountImportService;
 import com.fintech.account.service.AccountService;
+import com.fintech.account.service.TransferService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,9 +15,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.UUID;
 
@@ -24,9 +30,13 @@ import java.util.UUID;
 public class AccountController {
 
     private final AccountService accountService;
+    private final AccountImportService accountImportService;
+    private final TransferService transferService;
 
-    public AccountController(AccountService accountService) {
+    public AccountController(AccountService accountService, AccountImportService accountImportService, TransferService transferService) {
         this.accountService = accountService;
+        this.accountImportService = accountImportService;
+        this.transferService = transferService;
     }
 
     @Operation(
@@ -43,6 +53,19 @@ public class AccountController {
         return ResponseEntity.ok(accountService.createAccount(accountCreateDto));
     }
 
+    @Operation(
+            summary = "Importar contas em lote",
+            description = "Cria contas a partir de um arquivo CSV (document,holderName,balance) ou NDJSON, reportando as linhas rejeitadas."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação concluída"),
+            @ApiResponse(responseCode = "400", description = "Formato não suportado")
+    })
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<AccountImportReportDto> importAccounts(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) throws IOException {
+        return ResponseEntity.ok(accountImportService.importAccounts(body, AccountImportService.Format.fromContentType(contentType)));
+    }
+
     @Operation(
             summary = "Buscar conta por id",
             description = "Retorna os dados de uma conta a partir do id."
@@ -51,7 +74,7 @@ public class AccountController {
             @ApiResponse(responseCode = "200", description = "Conta encontrada"),
             @ApiResponse(responseCode = "404", description = "Conta não encontrada")
     })
-    @GetMapping("/{document}")
+    @GetMapping("/{accountId}")
     public ResponseEntity<AccountResponseDto> findAccount(@Parameter(description = "Id da conta", example = "12389") @PathVariable UUID accountId) {
         return ResponseEntity.ok(accountService.getAccountById(accountId));
     }
@@ -73,7 +96,8 @@ public class AccountController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Depósito realizado com sucesso"),
             @ApiResponse(responseCode = "400", description = "Valor inválido"),
-            @ApiResponse(responseCode = "404", description = "Conta não encontrada")
+            @ApiResponse(responseCode = "404", description = "Conta não encontrada"),
+            @ApiResponse(responseCode = "429", description = "Limite de requisições excedido")
     })
     @PatchMapping("/{accountId}/deposit")
     public ResponseEntity<Void> deposit(
@@ -92,7 +116,8 @@ public class AccountController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Saque realizado com sucesso"),
             @ApiResponse(responseCode = "400", description = "Saldo insuficiente ou valor inválido"),
-            @ApiResponse(responseCode = "404", description = "Conta não encontrada")
+            @ApiResponse(responseCode = "404", description = "Conta não encontrada"),
+            @ApiResponse(responseCode = "429", description = "Limite de requisições excedido")
     })
     @PatchMapping("/{accountId}/withdraw")
     public ResponseEntity<Void> withdraw(@PathVariable UUID accountId, @RequestParam BigDecimal amount) {
@@ -106,12 +131,13 @@ public class AccountController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Transferência realizada com sucesso"),
-            @ApiResponse(responseCode = "400", description = "Saldo insuficiente ou dados inválidos"),
-            @ApiResponse(responseCode = "404", description = "Conta origem ou destino não encontrada")
+            @ApiResponse(responseCode = "400", description = "Saldo insuficiente, dados inválidos ou limite de velocidade excedido"),
+            @ApiResponse(responseCode = "404", description = "Conta origem ou destino não encontrada"),
+            @ApiResponse(responseCode = "429", description = "Limite de requisições excedido")
     })
     @PostMapping("/{accountId}/transfer")
     public ResponseEntity<Void> transfer(@PathVariable UUID accountId, @RequestHeader("Idempotency-Key") String idempotencyKey, @RequestBody @Valid TransferRequestDto request) {
-        accountService.transfer(
+        transferService.transfer(
                 idempotencyKey,
                 request.amount(),
                 accountId,
@@ -0,0 +1,8 @@
+package com.fintech.account.dto;
+
+public record AccountBalanceEvent(
+        String accountId,
+        String balance,
+        String status,
+        long version
+) {}
@@ -0,0 +1,22 @@
+package com.fintech.account.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Resultado da importação em lote de contas")
+public record AccountImportReportDto(
+
+        @Schema(description = "Quantidade de linhas lidas", example = "1000000")
+        long received,
+
+        @Schema(description = "Quantidade de contas criadas", example = "999850")
+        long imported,
+
+        @Schema(description = "Quantidade de linhas rejeitadas", example = "150")
+        long rejected,
+
+        @Schema(description = "Linhas rejeitadas (limitado às primeiras ocorrências)")
+        List<RejectedRowDto> rejectedRows
+
+) {}
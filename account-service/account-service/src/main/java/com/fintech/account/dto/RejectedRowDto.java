@@ -0,0 +1,17 @@
+package com.fintech.account.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Linha rejeitada na importação de contas")
+public record RejectedRowDto(
+
+        @Schema(description = "Número da linha no arquivo", example = "42")
+        long line,
+
+        @Schema(description = "Documento informado na linha", example = "12345678900")
+        String document,
+
+        @Schema(description = "Motivo da rejeição", example = "Document already registered")
+        String reason
+
+) {}
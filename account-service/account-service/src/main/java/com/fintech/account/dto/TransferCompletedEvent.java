@@ -4,5 +4,7 @@ public record TransferCompletedEvent(
         String transactionId,
         String fromAccountId,
         String toAccountId,
-        String amount
-) {}
\ No newline at end of file
+        String amount,
+        String fromBalance,
+        String toBalance
+) {}
@@ -0,0 +1,7 @@
+package com.fintech.account.exception;
+
+public class VelocityLimitExceededException extends InvalidTransactionException {
+    public VelocityLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -16,7 +16,7 @@ import java.util.UUID;
 @Builder
 public class Transaction {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     private UUID fromAccountId;
@@ -18,7 +18,7 @@ import java.util.UUID;
 public class TransactionRequest {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(nullable = false, unique = true)
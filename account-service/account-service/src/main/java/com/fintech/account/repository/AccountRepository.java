@@ -1,15 +1,9 @@
 package com.fintech.account.repository;
 
 import com.fintech.account.model.Account;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
 import java.util.UUID;
 
-public interface AccountRepository extends JpaRepository<Account, Long> {
-    Optional<Account> findByAccountId(UUID accountId);
-
-    Page<Account> listAccounts(Pageable pageable);
+public interface AccountRepository extends JpaRepository<Account, UUID> {
 }
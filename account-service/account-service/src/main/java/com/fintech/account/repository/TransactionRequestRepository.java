@@ -4,9 +4,10 @@ import com.fintech.account.model.TransactionRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
+import java.util.UUID;
 
 public interface TransactionRequestRepository
-        extends JpaRepository<TransactionRequest, Long> {
+        extends JpaRepository<TransactionRequest, UUID> {
 
     Optional<TransactionRequest> findByIdempotencyKey(String key);
 }
\ No newline at end of file
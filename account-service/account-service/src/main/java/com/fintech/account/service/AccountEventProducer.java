@@ -0,0 +1,57 @@
+package com.fintech.account.service;
+
+import com.fintech.account.config.AccountEventProperties;
+import com.fintech.account.dto.AccountBalanceEvent;
+import com.fintech.account.model.Account;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class AccountEventProducer {
+
+    private final KafkaTemplate<String, AccountBalanceEvent> kafkaTemplate;
+    private final AccountEventProperties properties;
+    private final Counter published;
+    private final Counter failed;
+
+    public AccountEventProducer(KafkaTemplate<String, AccountBalanceEvent> kafkaTemplate, AccountEventProperties properties, MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.properties = properties;
+        this.published = meterRegistry.counter("account.events.sent", "outcome", "success");
+        this.failed = meterRegistry.counter("account.events.sent", "outcome", "failure");
+    }
+
+    public void publish(Account account) {
+        AccountBalanceEvent event = new AccountBalanceEvent(
+                account.getId().toString(),
+                account.getBalance().toString(),
+                account.getStatus().name(),
+                account.getVersion()
+        );
+
+        AfterCommit.run(() -> {
+            try {
+                kafkaTemplate.send(properties.topic(), event.accountId(), event)
+                        .whenComplete((result, ex) -> {
+                            if (ex == null) {
+                                published.increment();
+                                return;
+                            }
+                            onFailure(event, ex);
+                        });
+            } catch (RuntimeException ex) {
+                onFailure(event, ex);
+            }
+        });
+    }
+
+    private void onFailure(AccountBalanceEvent event, Throwable ex) {
+        failed.increment();
+        log.error("Failed to publish balance event for account {}", event.accountId(), ex);
+    }
+
+}
@@ -0,0 +1,323 @@
+package com.fintech.account.service;
+
+import com.fintech.account.config.AccountImportProperties;
+import com.fintech.account.dto.AccountCreateDto;
+import com.fintech.account.dto.AccountImportReportDto;
+import com.fintech.account.dto.RejectedRowDto;
+import com.fintech.account.exception.InvalidTransactionException;
+import com.fintech.account.model.Account;
+import com.fintech.account.model.AccountStatus;
+import com.fintech.account.model.UuidV7;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Service
+public class AccountImportService {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO accounts (id, version, document, balance, holder_name, created_at, status)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String EXISTING_DOCUMENTS_SQL = "SELECT document FROM accounts WHERE document IN (:documents)";
+
+    private static final String INSERTED_IDS_SQL = "SELECT id FROM accounts WHERE id IN (:ids)";
+
+    public enum Format {
+        CSV,
+        NDJSON;
+
+        public static Format fromContentType(String contentType) {
+            if (contentType != null && contentType.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (contentType != null && contentType.startsWith("application/x-ndjson")) {
+                return NDJSON;
+            }
+            throw new InvalidTransactionException("Unsupported import format: " + contentType);
+        }
+    }
+
+    private record ParsedRow(long line, AccountCreateDto dto, String document, String error) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final AccountEventProducer accountEventProducer;
+    private final AccountImportProperties properties;
+
+    public AccountImportService(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate, TransactionTemplate transactionTemplate, Validator validator, ObjectMapper objectMapper, AccountEventProducer accountEventProducer, AccountImportProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.accountEventProducer = accountEventProducer;
+        this.properties = properties;
+    }
+
+    /**
+     * Streams the file in chunks: each chunk is parsed and validated in parallel, deduplicated
+     * against every document seen so far and inserted with batched JDBC in its own transaction,
+     * so a bad chunk never rolls back what was already imported.
+     */
+    public AccountImportReportDto importAccounts(InputStream input, Format format) throws IOException {
+        ImportReport report = new ImportReport(properties.maxReportedRejections());
+        Set<String> seenDocuments = new HashSet<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<String> chunk = new ArrayList<>(properties.chunkSize());
+            long lineNumber = 0;
+            long chunkStart = 1;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && format == Format.CSV && isCsvHeader(line)) {
+                    chunkStart = 2;
+                    continue;
+                }
+
+                chunk.add(line);
+                if (chunk.size() == properties.chunkSize()) {
+                    processChunk(chunk, chunkStart, format, seenDocuments, report);
+                    chunk.clear();
+                    chunkStart = lineNumber + 1;
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                processChunk(chunk, chunkStart, format, seenDocuments, report);
+            }
+        }
+
+        return report.toDto();
+    }
+
+    private void processChunk(List<String> lines, long firstLine, Format format, Set<String> seenDocuments, ImportReport report) {
+        List<ParsedRow> rows = IntStream.range(0, lines.size())
+                .parallel()
+                .filter(i -> !lines.get(i).isBlank())
+                .mapToObj(i -> parse(firstLine + i, lines.get(i), format))
+                .toList();
+
+        List<Account> accepted = new ArrayList<>(rows.size());
+        Map<String, Long> acceptedLines = new HashMap<>();
+
+        for (ParsedRow row : rows) {
+            report.received++;
+
+            if (row.error() != null) {
+                report.reject(row.line(), row.document(), row.error());
+            } else if (!seenDocuments.add(row.document())) {
+                report.reject(row.line(), row.document(), "Duplicate document in file");
+            } else {
+                accepted.add(toAccount(row.dto()));
+                acceptedLines.put(row.document(), row.line());
+            }
+        }
+
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        Set<String> existing = findExistingDocuments(acceptedLines.keySet());
+        if (!existing.isEmpty()) {
+            accepted.removeIf(account -> {
+                if (!existing.contains(account.getDocument())) {
+                    return false;
+                }
+                report.reject(acceptedLines.get(account.getDocument()), account.getDocument(), "Document already registered");
+                return true;
+            });
+        }
+
+        try {
+            List<Account> inserted = transactionTemplate.execute(status -> {
+                insert(accepted);
+                List<Account> stored = findInserted(accepted);
+                stored.forEach(accountEventProducer::publish);
+                return stored;
+            });
+            report.imported += inserted.size();
+
+            // Rows skipped by ON CONFLICT: the document was registered after findExistingDocuments ran
+            if (inserted.size() < accepted.size()) {
+                Set<UUID> insertedIds = inserted.stream().map(Account::getId).collect(Collectors.toSet());
+                accepted.stream()
+                        .filter(account -> !insertedIds.contains(account.getId()))
+                        .forEach(account -> report.reject(acceptedLines.get(account.getDocument()), account.getDocument(), "Document already registered"));
+            }
+        } catch (DataAccessException ex) {
+            String reason = "Insert failed: " + ex.getMostSpecificCause().getMessage();
+            accepted.forEach(account -> report.reject(acceptedLines.get(account.getDocument()), account.getDocument(), reason));
+        }
+    }
+
+    private ParsedRow parse(long line, String content, Format format) {
+        AccountCreateDto dto;
+        try {
+            dto = format == Format.CSV ? parseCsv(content) : objectMapper.readValue(content, AccountCreateDto.class);
+        } catch (JacksonException | IllegalArgumentException ex) {
+            return new ParsedRow(line, null, null, "Malformed row: " + ex.getMessage());
+        }
+
+        if (dto == null) {
+            return new ParsedRow(line, null, null, "Malformed row: expected an account object");
+        }
+
+        Set<ConstraintViolation<AccountCreateDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            String error = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            return new ParsedRow(line, dto, dto.document(), error);
+        }
+
+        return new ParsedRow(line, dto, dto.document(), null);
+    }
+
+    private AccountCreateDto parseCsv(String line) {
+        List<String> fields = splitCsv(line);
+        if (fields.size() != 3) {
+            throw new IllegalArgumentException("expected 3 columns but found " + fields.size());
+        }
+
+        String balance = fields.get(2).trim();
+        return new AccountCreateDto(
+                fields.get(0).trim(),
+                fields.get(1).trim(),
+                balance.isEmpty() ? null : new BigDecimal(balance)
+        );
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>(3);
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private static boolean isCsvHeader(String line) {
+        return line.trim().toLowerCase().startsWith("document");
+    }
+
+    private Account toAccount(AccountCreateDto dto) {
+        return Account.builder()
+                .id(UuidV7.randomUuid())
+                .version(0)
+                .document(dto.document())
+                .holderName(dto.holderName())
+                .balance(dto.balance())
+                .createdAt(LocalDateTime.now())
+                .status(AccountStatus.ACTIVE)
+                .build();
+    }
+
+    private Set<String> findExistingDocuments(Set<String> documents) {
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                EXISTING_DOCUMENTS_SQL,
+                Map.of("documents", documents),
+                String.class
+        ));
+    }
+
+    // Ids are generated here, so an id missing from the table means its row hit a conflict
+    private List<Account> findInserted(List<Account> accounts) {
+        Set<UUID> stored = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                INSERTED_IDS_SQL,
+                Map.of("ids", accounts.stream().map(Account::getId).toList()),
+                UUID.class
+        ));
+        return accounts.stream()
+                .filter(account -> stored.contains(account.getId()))
+                .toList();
+    }
+
+    private void insert(List<Account> accounts) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, accounts, properties.batchSize(), (ps, account) -> {
+            ps.setObject(1, account.getId());
+            ps.setInt(2, account.getVersion());
+            ps.setString(3, account.getDocument());
+            ps.setBigDecimal(4, account.getBalance());
+            ps.setString(5, account.getHolderName());
+            ps.setTimestamp(6, Timestamp.valueOf(account.getCreatedAt()));
+            ps.setString(7, account.getStatus().name());
+        });
+    }
+
+    private static final class ImportReport {
+
+        private final int maxReported;
+        private final List<RejectedRowDto> rejectedRows = new ArrayList<>();
+        private long received;
+        private long imported;
+        private long rejected;
+
+        private ImportReport(int maxReported) {
+            this.maxReported = maxReported;
+        }
+
+        private void reject(long line, String document, String reason) {
+            rejected++;
+            if (rejectedRows.size() < maxReported) {
+                rejectedRows.add(new RejectedRowDto(line, document, reason));
+            }
+        }
+
+        private AccountImportReportDto toDto() {
+            return new AccountImportReportDto(received, imported, rejected, rejectedRows);
+        }
+    }
+}
@@ -21,8 +21,12 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class AccountService {
@@ -31,12 +35,14 @@ public class AccountService {
     private final TransactionRequestRepository transactionRequestRepository;
     private final TransactionRepository transactionRepository;
     private final TransferEventProducer transferEventProducer;
+    private final AccountEventProducer accountEventProducer;
 
-    public AccountService(AccountRepository accountRepository, TransactionRepository transactionRepository, TransactionRequestRepository transactionRequestRepository, TransferEventProducer transferEventProducer) {
+    public AccountService(AccountRepository accountRepository, TransactionRepository transactionRepository, TransactionRequestRepository transactionRequestRepository, TransferEventProducer transferEventProducer, AccountEventProducer accountEventProducer) {
         this.accountRepository = accountRepository;
         this.transactionRequestRepository = transactionRequestRepository;
         this.transactionRepository = transactionRepository;
         this.transferEventProducer = transferEventProducer;
+        this.accountEventProducer = accountEventProducer;
     }
 
     @Transactional
@@ -45,11 +51,13 @@ public class AccountService {
         Account account = Account.builder()
                 .document(dto.document())
                 .holderName(dto.holderName())
-                .balance(BigDecimal.ZERO)
+                .balance(dto.balance())
+                .createdAt(LocalDateTime.now())
                 .status(AccountStatus.ACTIVE)
                 .build();
 
         Account saved = accountRepository.save(account);
+        accountEventProducer.publish(saved);
 
         return mapToDto(saved);
     }
@@ -77,6 +85,7 @@ public class AccountService {
         validateAccountIsActive(account);
 
         account.setBalance(account.getBalance().add(amount));
+        publishBalances(account);
     }
 
     @Retryable(
@@ -97,70 +106,90 @@ public class AccountService {
         }
 
         account.setBalance(account.getBalance().subtract(amount));
+        publishBalances(account);
     }
 
+    @Transactional(readOnly = true)
+    public boolean isTransferCompleted(String idempotencyKey) {
+        return transactionRequestRepository.findByIdempotencyKey(idempotencyKey)
+                .filter(request -> request.getStatus() == RequestStatus.APPROVED)
+                .isPresent();
+    }
+
+    /**
+     * @return {@code false} when the idempotency key was already used and nothing was moved
+     */
     @Retryable(
             value = OptimisticLockingFailureException.class,
             maxAttempts = 3,
             backoff = @Backoff(delay = 100)
     )
     @Transactional
-    public void transfer(String idempotencyKey, BigDecimal amount, UUID fromAccountId, UUID toAccountId) {
+    public boolean transfer(String idempotencyKey, BigDecimal amount, UUID fromAccountId, UUID toAccountId) {
 
         Optional<TransactionRequest> existing = transactionRequestRepository.findByIdempotencyKey(idempotencyKey);
 
         if (existing.isPresent()) {
-            return;
+            return false;
         }
 
         validateAmount(amount);
 
-        Account sender = findAccountOrThrow(fromAccountId);
-        Account receiver = findAccountOrThrow(toAccountId);
+        // One round trip for both sides of the transfer
+        Map<UUID, Account> accounts = accountRepository.findAllById(List.of(fromAccountId, toAccountId)).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+
+        Account sender = requireAccount(accounts, fromAccountId);
+        Account receiver = requireAccount(accounts, toAccountId);
 
         validateAccountIsActive(sender);
         validateAccountIsActive(receiver);
 
-        Transaction transaction = Transaction.builder()
-                .fromAccountId(fromAccountId)
-                .toAccountId(toAccountId)
-                .amount(amount)
-                .createdAt(Instant.now())
-                .status(TransactionStatus.PENDING)
-                .build();
-
-        transactionRepository.save(transaction);
-
         if (sender.getBalance().compareTo(amount) < 0) {
-            transaction.setStatus(TransactionStatus.FAILED);
             throw new InsufficientBalanceException();
         }
 
         sender.setBalance(sender.getBalance().subtract(amount));
         receiver.setBalance(receiver.getBalance().add(amount));
 
-        transaction.setCompletedAt(Instant.now());
-        transaction.setStatus(TransactionStatus.COMPLETED);
+        // Persisted in its final state: a PENDING insert followed by an update would cost an extra statement
+        Instant now = Instant.now();
+        Transaction transaction = Transaction.builder()
+                .fromAccountId(fromAccountId)
+                .toAccountId(toAccountId)
+                .amount(amount)
+                .createdAt(now)
+                .completedAt(now)
+                .status(TransactionStatus.COMPLETED)
+                .build();
+
+        transactionRepository.save(transaction);
 
         TransactionRequest request = TransactionRequest.builder()
                 .idempotencyKey(idempotencyKey)
                 .fromAccountId(fromAccountId)
                 .toAccountId(toAccountId)
                 .amount(amount)
+                .status(RequestStatus.APPROVED)
+                .transactionId(transaction.getId())
                 .createdAt(Instant.now())
                 .build();
 
         transactionRequestRepository.save(request);
 
+        publishBalances(sender, receiver);
 
         TransferCompletedEvent event = new TransferCompletedEvent(
                 transaction.getId().toString(),
                 fromAccountId.toString(),
                 toAccountId.toString(),
-                amount.toString()
+                amount.toString(),
+                sender.getBalance().toString(),
+                receiver.getBalance().toString()
         );
 
         transferEventProducer.publish(event);
+        return true;
     }
 
     @Transactional
@@ -176,6 +205,7 @@ public class AccountService {
         }
 
         account.setStatus(AccountStatus.BLOCKED);
+        publishBalances(account);
     }
 
     @Transactional
@@ -191,6 +221,7 @@ public class AccountService {
         }
 
         account.setStatus(AccountStatus.ACTIVE);
+        publishBalances(account);
     }
 
     @Transactional
@@ -202,17 +233,35 @@ public class AccountService {
         }
 
         account.setStatus(AccountStatus.CLOSED);
+        publishBalances(account);
     }
 
     public List<Transaction> findAllByAccountId(UUID accountId) {
-        return transactionRepository.findByAccountIdOrderByCreatedAt(accountId).orElse(null);
+        return transactionRepository.findByFromAccountIdOrToAccountIdOrderByCreatedAt(accountId, accountId);
+    }
+
+    private Account requireAccount(Map<UUID, Account> accounts, UUID accountId) {
+        Account account = accounts.get(accountId);
+        if (account == null) {
+            throw new AccountNotFoundException(accountId);
+        }
+        return account;
     }
 
     private Account findAccountOrThrow(UUID accountId) {
-        return accountRepository.findByAccountId(accountId)
+        return accountRepository.findById(accountId)
                 .orElseThrow(() -> new AccountNotFoundException(accountId));
     }
 
+    private void publishBalances(Account... accounts) {
+        // Flushing assigns the new @Version, which consumers use to discard stale or replayed events
+        accountRepository.flush();
+
+        for (Account account : accounts) {
+            accountEventProducer.publish(account);
+        }
+    }
+
     private void validateAmount(BigDecimal amount) {
         if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
             throw new InvalidTransactionException("Amount must be greater than zero");
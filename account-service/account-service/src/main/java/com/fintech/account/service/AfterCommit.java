@@ -0,0 +1,35 @@
+package com.fintech.account.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Defers the action until the surrounding transaction commits, so events never describe
+     * state that was rolled back or retried after an optimistic lock failure. The transaction is
+     * already committed when the action runs, so a failure is logged instead of reaching the caller.
+     */
+    static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    action.run();
+                } catch (RuntimeException ex) {
+                    log.error("After-commit action failed", ex);
+                }
+            }
+        });
+    }
+}
@@ -1,18 +1,58 @@
 package com.fintech.account.service;
 
+import com.fintech.account.config.TransferEventProperties;
 import com.fintech.account.dto.TransferCompletedEvent;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class TransferEventProducer {
 
     private final KafkaTemplate<String, TransferCompletedEvent> kafkaTemplate;
+    private final TransferEventProperties properties;
+    private final Counter published;
+    private final Counter failed;
+
+    public TransferEventProducer(KafkaTemplate<String, TransferCompletedEvent> kafkaTemplate, TransferEventProperties properties, MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.properties = properties;
+        this.published = meterRegistry.counter("transfer.events.sent", "outcome", "success");
+        this.failed = meterRegistry.counter("transfer.events.sent", "outcome", "failure");
+    }
 
     public void publish(TransferCompletedEvent event) {
-        kafkaTemplate.send("transfer.completed", event.transactionId(), event);
+        AfterCommit.run(() -> {
+            try {
+                kafkaTemplate.send(properties.topic(), partitionKey(event), event)
+                        .whenComplete((result, ex) -> {
+                            if (ex == null) {
+                                published.increment();
+                                return;
+                            }
+                            onFailure(event, ex);
+                        });
+            } catch (RuntimeException ex) {
+                // Thrown synchronously when metadata or buffer space is not available within max.block.ms
+                onFailure(event, ex);
+            }
+        });
+    }
+
+    private void onFailure(TransferCompletedEvent event, Throwable ex) {
+        failed.increment();
+        log.error("Failed to publish transfer event {}", event.transactionId(), ex);
+    }
+
+    private String partitionKey(TransferCompletedEvent event) {
+        return switch (properties.partitionKey()) {
+            case FROM_ACCOUNT -> event.fromAccountId();
+            case TO_ACCOUNT -> event.toAccountId();
+            case TRANSACTION -> event.transactionId();
+        };
     }
 
 }
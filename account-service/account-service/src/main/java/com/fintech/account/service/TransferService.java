@@ -0,0 +1,50 @@
+package com.fintech.account.service;
+
+import com.fintech.account.exception.VelocityLimitExceededException;
+import com.fintech.account.velocity.VelocityReservation;
+import com.fintech.account.velocity.VelocityService;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Runs the in-memory velocity limits outside the transaction, so a rejected transfer never
+ * borrows a connection. The reservation is given back when the transfer does not go through.
+ * <p>
+ * The idempotency key is only looked up once a transfer is rejected, so a retry of a transfer
+ * that already went through still succeeds without adding a query to the accepted path.
+ */
+@Service
+public class TransferService {
+
+    private final AccountService accountService;
+    private final VelocityService velocityService;
+
+    public TransferService(AccountService accountService, VelocityService velocityService) {
+        this.accountService = accountService;
+        this.velocityService = velocityService;
+    }
+
+    public void transfer(String idempotencyKey, BigDecimal amount, UUID fromAccountId, UUID toAccountId) {
+        VelocityReservation reservation;
+        try {
+            reservation = velocityService.reserve(fromAccountId, toAccountId, amount);
+        } catch (VelocityLimitExceededException ex) {
+            if (accountService.isTransferCompleted(idempotencyKey)) {
+                return;
+            }
+            throw ex;
+        }
+
+        try {
+            if (!accountService.transfer(idempotencyKey, amount, fromAccountId, toAccountId)) {
+                reservation.release();
+            }
+        } catch (RuntimeException ex) {
+            // Reached only once retries are exhausted and the last attempt has rolled back
+            reservation.release();
+            throw ex;
+        }
+    }
+}
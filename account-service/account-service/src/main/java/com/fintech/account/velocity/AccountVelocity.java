@@ -0,0 +1,144 @@
+package com.fintech.account.velocity;
+
+import java.util.Arrays;
+
+/**
+ * Sliding-window totals for one sender, kept as a ring of time buckets in primitive arrays.
+ * Running totals are adjusted as buckets expire, so a check is O(1) amortized.
+ */
+class AccountVelocity {
+
+    enum Rule {
+        COUNT,
+        AMOUNT,
+        NEW_RECEIVER_COUNT,
+        NEW_RECEIVER_AMOUNT
+    }
+
+    /**
+     * Outcome of a reservation: the rule it broke, or the bucket it was counted in.
+     */
+    record Reservation(Rule brokenRule, long bucket) {
+
+        boolean accepted() {
+            return brokenRule == null;
+        }
+    }
+
+    private final long bucketMillis;
+    private final int[] counts;
+    private final long[] amounts;
+    private final int[] newReceiverCounts;
+    private final long[] newReceiverAmounts;
+
+    private long headBucket;
+    private int totalCount;
+    private long totalAmount;
+    private int totalNewReceivers;
+    private long totalNewReceiverAmount;
+    private volatile long lastTouched;
+
+    AccountVelocity(long windowMillis, int buckets, long now) {
+        this.bucketMillis = Math.max(1, windowMillis / buckets);
+        this.counts = new int[buckets];
+        this.amounts = new long[buckets];
+        this.newReceiverCounts = new int[buckets];
+        this.newReceiverAmounts = new long[buckets];
+        this.headBucket = now / bucketMillis;
+        this.lastTouched = now;
+    }
+
+    /**
+     * Checks the transfer against the limits and counts it in the same step, so concurrent
+     * transfers from one sender cannot all pass against the same totals.
+     */
+    synchronized Reservation reserve(long now, long amountCents, boolean newReceiver, VelocityLimits limits) {
+        advance(now);
+        lastTouched = now;
+
+        Rule broken = evaluate(amountCents, newReceiver, limits);
+        if (broken != null) {
+            return new Reservation(broken, -1);
+        }
+
+        add((int) (headBucket % counts.length), 1, amountCents, newReceiver);
+        return new Reservation(null, headBucket);
+    }
+
+    /**
+     * Takes back a reservation whose transfer did not commit. Buckets that already left the
+     * window have been subtracted from the totals, so there is nothing to undo for them.
+     */
+    synchronized void release(long bucket, long amountCents, boolean newReceiver) {
+        if (bucket < 0 || bucket <= headBucket - counts.length) {
+            return;
+        }
+        add((int) (bucket % counts.length), -1, -amountCents, newReceiver);
+    }
+
+    private Rule evaluate(long amountCents, boolean newReceiver, VelocityLimits limits) {
+        if (totalCount + 1 > limits.maxCount()) {
+            return Rule.COUNT;
+        }
+        if (totalAmount + amountCents > limits.maxAmountCents()) {
+            return Rule.AMOUNT;
+        }
+        if (newReceiver && totalNewReceivers + 1 > limits.maxNewReceivers()) {
+            return Rule.NEW_RECEIVER_COUNT;
+        }
+        if (newReceiver && totalNewReceiverAmount + amountCents > limits.maxNewReceiverAmountCents()) {
+            return Rule.NEW_RECEIVER_AMOUNT;
+        }
+        return null;
+    }
+
+    private void add(int index, int count, long amountCents, boolean newReceiver) {
+        counts[index] += count;
+        amounts[index] += amountCents;
+        totalCount += count;
+        totalAmount += amountCents;
+
+        if (newReceiver) {
+            newReceiverCounts[index] += count;
+            newReceiverAmounts[index] += amountCents;
+            totalNewReceivers += count;
+            totalNewReceiverAmount += amountCents;
+        }
+    }
+
+    long lastTouched() {
+        return lastTouched;
+    }
+
+    private void advance(long now) {
+        long bucket = now / bucketMillis;
+        long steps = bucket - headBucket;
+        if (steps <= 0) {
+            return;
+        }
+
+        if (steps >= counts.length) {
+            Arrays.fill(counts, 0);
+            Arrays.fill(amounts, 0);
+            Arrays.fill(newReceiverCounts, 0);
+            Arrays.fill(newReceiverAmounts, 0);
+            totalCount = 0;
+            totalAmount = 0;
+            totalNewReceivers = 0;
+            totalNewReceiverAmount = 0;
+        } else {
+            for (long expired = headBucket + 1; expired <= bucket; expired++) {
+                int index = (int) (expired % counts.length);
+                totalCount -= counts[index];
+                totalAmount -= amounts[index];
+                totalNewReceivers -= newReceiverCounts[index];
+                totalNewReceiverAmount -= newReceiverAmounts[index];
+                counts[index] = 0;
+                amounts[index] = 0;
+                newReceiverCounts[index] = 0;
+                newReceiverAmounts[index] = 0;
+            }
+        }
+        headBucket = bucket;
+    }
+}
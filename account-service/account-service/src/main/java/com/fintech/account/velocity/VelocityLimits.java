@@ -0,0 +1,8 @@
+package com.fintech.account.velocity;
+
+record VelocityLimits(
+        int maxCount,
+        long maxAmountCents,
+        int maxNewReceivers,
+        long maxNewReceiverAmountCents
+) {}
@@ -0,0 +1,27 @@
+package com.fintech.account.velocity;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * The tracking caps are sized for about 256 MB of heap: a tracked sender costs about 450 bytes
+ * with 12 buckets and a tracked sender/receiver pair about 90 bytes, so the defaults hold roughly
+ * 185 MB. Senders past the cap are let through untracked; for millions of active senders raise
+ * {@code maxTrackedAccounts} together with the heap, about 0.5 GB per million senders.
+ */
+@ConfigurationProperties(prefix = "velocity")
+public record VelocityProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1h") Duration window,
+        @DefaultValue("12") int buckets,
+        @DefaultValue("100") int maxCount,
+        @DefaultValue("50000.00") BigDecimal maxAmount,
+        @DefaultValue("5") int maxNewReceivers,
+        @DefaultValue("10000.00") BigDecimal maxNewReceiverAmount,
+        @DefaultValue("30d") Duration receiverMemory,
+        @DefaultValue("250000") int maxTrackedAccounts,
+        @DefaultValue("800000") int maxTrackedPairs
+) {}
@@ -0,0 +1,25 @@
+package com.fintech.account.velocity;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A transfer already counted against its sender's window, held until the transfer either
+ * commits or fails. Releasing more than once has no effect.
+ */
+public final class VelocityReservation {
+
+    static final VelocityReservation NONE = new VelocityReservation(() -> {});
+
+    private final Runnable onRelease;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    VelocityReservation(Runnable onRelease) {
+        this.onRelease = onRelease;
+    }
+
+    public void release() {
+        if (released.compareAndSet(false, true)) {
+            onRelease.run();
+        }
+    }
+}
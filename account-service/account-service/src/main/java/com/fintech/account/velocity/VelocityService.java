@@ -0,0 +1,151 @@
+package com.fintech.account.velocity;
+
+import com.fintech.account.exception.InvalidTransactionException;
+import com.fintech.account.exception.VelocityLimitExceededException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory velocity limits for transfers, evaluated before any transaction is opened.
+ * Each sender has its own lock, so concurrent transfers only contend when they share a sender.
+ * <p>
+ * When a tracking cap is reached even after evicting idle entries, the untracked sender or pair
+ * is let through rather than rejected, and counted in {@code velocity.untracked}.
+ */
+@Service
+public class VelocityService {
+
+    private static final long MIN_SWEEP_INTERVAL_MILLIS = 1_000;
+
+    private record Pair(UUID from, UUID to) {}
+
+    private final VelocityProperties properties;
+    private final VelocityLimits limits;
+    private final MeterRegistry meterRegistry;
+    private final Map<UUID, AccountVelocity> senders = new ConcurrentHashMap<>();
+    private final Map<Pair, Long> lastTransferByPair = new ConcurrentHashMap<>();
+    private final AtomicLong lastSweep = new AtomicLong();
+
+    public VelocityService(VelocityProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.limits = new VelocityLimits(
+                properties.maxCount(),
+                toCents(properties.maxAmount()),
+                properties.maxNewReceivers(),
+                toCents(properties.maxNewReceiverAmount())
+        );
+
+        meterRegistry.gaugeMapSize("velocity.tracked.accounts", List.of(), senders);
+        meterRegistry.gaugeMapSize("velocity.tracked.pairs", List.of(), lastTransferByPair);
+    }
+
+    /**
+     * Counts the transfer against the sender's window, or throws when it would break a limit.
+     * The caller releases the reservation if the transfer does not commit.
+     */
+    public VelocityReservation reserve(UUID fromAccountId, UUID toAccountId, BigDecimal amount) {
+        if (!properties.enabled() || amount == null || amount.signum() <= 0) {
+            return VelocityReservation.NONE;
+        }
+
+        long now = System.currentTimeMillis();
+        long amountCents = toCents(amount);
+
+        AccountVelocity velocity = senderFor(fromAccountId, now);
+        if (velocity == null) {
+            meterRegistry.counter("velocity.untracked", "kind", "account").increment();
+            return VelocityReservation.NONE;
+        }
+
+        Pair pair = new Pair(fromAccountId, toAccountId);
+        Long previousTransfer = lastTransferByPair.get(pair);
+        boolean trackPair = previousTransfer != null || hasRoom(lastTransferByPair, properties.maxTrackedPairs(), now);
+        if (!trackPair) {
+            meterRegistry.counter("velocity.untracked", "kind", "pair").increment();
+        }
+        boolean newReceiver = trackPair
+                && (previousTransfer == null || now - previousTransfer > properties.receiverMemory().toMillis());
+
+        AccountVelocity.Reservation reservation = velocity.reserve(now, amountCents, newReceiver, limits);
+        if (!reservation.accepted()) {
+            meterRegistry.counter("velocity.rejections", "rule", reservation.brokenRule().name()).increment();
+            throw new VelocityLimitExceededException("Transfer exceeds velocity limit: " + reservation.brokenRule());
+        }
+
+        if (trackPair) {
+            lastTransferByPair.put(pair, now);
+        }
+
+        return new VelocityReservation(() -> {
+            velocity.release(reservation.bucket(), amountCents, newReceiver);
+            if (!trackPair) {
+                return;
+            }
+            // A transfer that never happened must not make the receiver look familiar
+            if (previousTransfer == null) {
+                lastTransferByPair.remove(pair, now);
+            } else {
+                lastTransferByPair.replace(pair, now, previousTransfer);
+            }
+        });
+    }
+
+    // Senders idle for a whole window have empty counters, so evicting them loses nothing
+    @Scheduled(fixedDelayString = "${velocity.window:1h}")
+    public void evictIdle() {
+        evictIdle(System.currentTimeMillis());
+    }
+
+    private void evictIdle(long now) {
+        long idleSenderCutoff = now - properties.window().toMillis();
+        long forgottenPairCutoff = now - properties.receiverMemory().toMillis();
+
+        senders.values().removeIf(velocity -> velocity.lastTouched() < idleSenderCutoff);
+        lastTransferByPair.values().removeIf(lastTransfer -> lastTransfer < forgottenPairCutoff);
+        lastSweep.set(now);
+    }
+
+    private AccountVelocity senderFor(UUID fromAccountId, long now) {
+        AccountVelocity velocity = senders.get(fromAccountId);
+        if (velocity != null) {
+            return velocity;
+        }
+        if (!hasRoom(senders, properties.maxTrackedAccounts(), now)) {
+            return null;
+        }
+        return senders.computeIfAbsent(fromAccountId,
+                id -> new AccountVelocity(properties.window().toMillis(), properties.buckets(), now));
+    }
+
+    // A full map is swept at most once per second, so a sustained overflow does not turn every transfer into a scan
+    private boolean hasRoom(Map<?, ?> map, int cap, long now) {
+        if (map.size() < cap) {
+            return true;
+        }
+
+        long previousSweep = lastSweep.get();
+        if (now - previousSweep >= MIN_SWEEP_INTERVAL_MILLIS && lastSweep.compareAndSet(previousSweep, now)) {
+            evictIdle(now);
+        }
+        return map.size() < cap;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        BigInteger cents = amount.setScale(2, RoundingMode.HALF_UP).unscaledValue();
+        if (cents.bitLength() >= Long.SIZE) {
+            throw new InvalidTransactionException("Amount is out of range");
+        }
+        return cents.longValue();
+    }
+}
@@ -0,0 +1,33 @@
+CREATE TABLE accounts (
+    id              UUID                        PRIMARY KEY,
+    version         INTEGER                     NOT NULL,
+    document        VARCHAR(255)                NOT NULL,
+    balance         NUMERIC(38, 2)              NOT NULL,
+    holder_name     VARCHAR(255)                NOT NULL,
+    created_at      TIMESTAMP(6)                NOT NULL,
+    status          VARCHAR(255)                NOT NULL,
+    CONSTRAINT uk_accounts_document UNIQUE (document)
+);
+
+CREATE TABLE transactions (
+    id              UUID                        PRIMARY KEY,
+    from_account_id UUID,
+    to_account_id   UUID,
+    amount          NUMERIC(38, 2)              NOT NULL,
+    created_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    status          VARCHAR(255)                NOT NULL,
+    completed_at    TIMESTAMP(6) WITH TIME ZONE
+);
+
+CREATE TABLE transaction_requests (
+    id              UUID                        PRIMARY KEY,
+    idempotency_key VARCHAR(255)                NOT NULL,
+    from_account_id UUID                        NOT NULL,
+    to_account_id   UUID                        NOT NULL,
+    amount          NUMERIC(38, 2)              NOT NULL,
+    status          VARCHAR(255)                NOT NULL,
+    transaction_id  UUID,
+    created_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_transaction_requests_idempotency_key UNIQUE (idempotency_key)
+);
+
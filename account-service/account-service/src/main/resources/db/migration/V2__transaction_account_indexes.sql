@@ -0,0 +1,3 @@
+-- Kept out of V1: databases created by Hibernate are baselined at version 1 and still need these
+CREATE INDEX IF NOT EXISTS idx_transactions_from_account ON transactions (from_account_id, created_at);
+CREATE INDEX IF NOT EXISTS idx_transactions_to_account ON transactions (to_account_id, created_at);
@@ -0,0 +1,78 @@
+package com.fintech.account.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTests {
+
+	private static final long BASELINE = TimeUnit.MILLISECONDS.toNanos(5);
+
+	@Test
+	void rejectsOnceTheLimitIsInFlight() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.2, 1000);
+
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isFalse();
+		assertThat(limiter.getInFlight()).isEqualTo(2);
+	}
+
+	@Test
+	void growsWhileTheLimitIsUsedAndLatencyIsSteady() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 50, 0.2, 1000);
+
+		runSaturated(limiter, 200, BASELINE);
+
+		assertThat(limiter.getLimit()).isEqualTo(50);
+	}
+
+	@Test
+	void doesNotGrowWhenMostOfTheLimitIsIdle() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 50, 0.2, 1000);
+
+		for (int i = 0; i < 500; i++) {
+			limiter.tryAcquire();
+			limiter.release(BASELINE);
+		}
+
+		assertThat(limiter.getLimit()).isEqualTo(10);
+	}
+
+	@Test
+	void shrinksAndStaysDownUnderSustainedQueueing() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 2, 20, 0.2, 1000);
+		runSaturated(limiter, 1000, BASELINE);
+
+		runSaturated(limiter, 300, 10 * BASELINE);
+
+		// The baseline must not drift up to the queued latency and let the limit climb back
+		assertThat(limiter.getLimit()).isLessThanOrEqualTo(5);
+	}
+
+	@Test
+	void neverExceedsTheMaximum() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(100, 1, 10, 0.2, 1000);
+
+		assertThat(limiter.getLimit()).isEqualTo(10);
+
+		runSaturated(limiter, 500, BASELINE);
+
+		assertThat(limiter.getLimit()).isEqualTo(10);
+	}
+
+	private static void runSaturated(AdaptiveConcurrencyLimiter limiter, int samples, long rttNanos) {
+		for (int i = 0; i < samples; i++) {
+			while (limiter.tryAcquire()) {
+				// fill every slot so each completion sees the limit in use
+			}
+			limiter.release(rttNanos);
+		}
+		while (limiter.getInFlight() > 0) {
+			limiter.release(0);
+		}
+	}
+
+}
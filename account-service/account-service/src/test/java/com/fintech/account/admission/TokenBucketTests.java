@@ -0,0 +1,66 @@
+package com.fintech.account.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTests {
+
+	private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	@Test
+	void startsFullAndRejectsOnceEmpty() {
+		TokenBucket bucket = new TokenBucket(3, 1, 0);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(bucket.tryConsume(0)).isZero();
+		}
+
+		assertThat(bucket.tryConsume(0)).isEqualTo(SECOND);
+	}
+
+	@Test
+	void refillsAtTheConfiguredRate() {
+		TokenBucket bucket = new TokenBucket(2, 10, 0);
+		bucket.tryConsume(0);
+		bucket.tryConsume(0);
+
+		assertThat(bucket.tryConsume(SECOND / 20)).isEqualTo(SECOND / 20);
+		assertThat(bucket.tryConsume(SECOND / 10)).isZero();
+		assertThat(bucket.tryConsume(SECOND / 10)).isGreaterThan(0);
+	}
+
+	@Test
+	void neverHoldsMoreThanItsCapacity() {
+		TokenBucket bucket = new TokenBucket(2, 10, 0);
+
+		long later = 60 * SECOND;
+		assertThat(bucket.tryConsume(later)).isZero();
+		assertThat(bucket.tryConsume(later)).isZero();
+		assertThat(bucket.tryConsume(later)).isGreaterThan(0);
+	}
+
+	@Test
+	void rejectedAttemptsDoNotConsumeTokens() {
+		TokenBucket bucket = new TokenBucket(1, 1, 0);
+		bucket.tryConsume(0);
+
+		for (int i = 0; i < 10; i++) {
+			bucket.tryConsume(SECOND / 2);
+		}
+
+		assertThat(bucket.tryConsume(SECOND)).isZero();
+	}
+
+	@Test
+	void tracksLastAccess() {
+		TokenBucket bucket = new TokenBucket(1, 1, 0);
+
+		bucket.tryConsume(5 * SECOND);
+
+		assertThat(bucket.getLastAccess()).isEqualTo(5 * SECOND);
+	}
+
+}
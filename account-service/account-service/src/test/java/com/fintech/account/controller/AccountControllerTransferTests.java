@@ -0,0 +1,94 @@
+package com.fintech.account.controller;
+
+import com.fintech.account.model.Account;
+import com.fintech.account.model.AccountStatus;
+import com.fintech.account.repository.AccountRepository;
+import com.fintech.account.service.AccountEventProducer;
+import com.fintech.account.service.TransferEventProducer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:transfer;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.kafka.admin.auto-create=false",
+		"admission.enabled=false",
+		"velocity.enabled=true",
+		"velocity.max-count=1"
+})
+@AutoConfigureMockMvc
+class AccountControllerTransferTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@MockitoBean
+	private TransferEventProducer transferEventProducer;
+
+	@MockitoBean
+	private AccountEventProducer accountEventProducer;
+
+	@Test
+	void retryOfACompletedTransferSucceedsOnceTheVelocityLimitIsReached() throws Exception {
+		Account sender = createAccount(new BigDecimal("100.00"));
+		Account receiver = createAccount(BigDecimal.ZERO);
+		String idempotencyKey = UUID.randomUUID().toString();
+
+		transfer(sender, receiver, idempotencyKey).andExpect(status().isNoContent());
+
+		transfer(sender, receiver, UUID.randomUUID().toString()).andExpect(status().isBadRequest());
+		transfer(sender, receiver, idempotencyKey).andExpect(status().isNoContent());
+	}
+
+	@Test
+	void amountBeyondTheCentsRangeIsRejected() throws Exception {
+		Account sender = createAccount(new BigDecimal("100.00"));
+		Account receiver = createAccount(BigDecimal.ZERO);
+
+		mockMvc.perform(post("/api/v1/accounts/" + sender.getId() + "/transfer")
+						.header("Idempotency-Key", UUID.randomUUID().toString())
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("""
+								{"fromAccountId": "%s", "toAccountId": "%s", "amount": 1e30}
+								""".formatted(sender.getId(), receiver.getId())))
+				.andExpect(status().isBadRequest());
+	}
+
+	private ResultActions transfer(Account sender, Account receiver, String idempotencyKey) throws Exception {
+		return mockMvc.perform(post("/api/v1/accounts/" + sender.getId() + "/transfer")
+				.header("Idempotency-Key", idempotencyKey)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("""
+						{"fromAccountId": "%s", "toAccountId": "%s", "amount": 10.00}
+						""".formatted(sender.getId(), receiver.getId())));
+	}
+
+	private Account createAccount(BigDecimal balance) {
+		return accountRepository.save(Account.builder()
+				.document(UUID.randomUUID().toString().substring(0, 14))
+				.holderName("Transfer Retry")
+				.balance(balance)
+				.createdAt(LocalDateTime.now())
+				.status(AccountStatus.ACTIVE)
+				.build());
+	}
+
+}
@@ -0,0 +1,201 @@
+package com.fintech.account.service;
+
+import com.fintech.account.dto.AccountImportReportDto;
+import com.fintech.account.dto.RejectedRowDto;
+import com.fintech.account.model.Account;
+import com.fintech.account.model.AccountStatus;
+import com.fintech.account.repository.AccountRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doReturn;
+
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:import;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.kafka.admin.auto-create=false",
+		"account.import.chunk-size=3",
+		"account.import.max-reported-rejections=2"
+})
+class AccountImportServiceTests {
+
+	@Autowired
+	private AccountImportService accountImportService;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockitoSpyBean
+	private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	@MockitoBean
+	private TransferEventProducer transferEventProducer;
+
+	@MockitoBean
+	private AccountEventProducer accountEventProducer;
+
+	@Test
+	void csvSkipsTheHeaderAndUnquotesFields() throws IOException {
+		String document = document();
+
+		AccountImportReportDto report = importCsv("""
+				document,holderName,balance
+				"%s","Silva, Rafael ""Rafa\"\"",10.50
+				""".formatted(document));
+
+		assertThat(report.received()).isEqualTo(1);
+		assertThat(report.imported()).isEqualTo(1);
+		assertThat(holderName(document)).isEqualTo("Silva, Rafael \"Rafa\"");
+	}
+
+	@Test
+	void csvWithoutHeaderImportsTheFirstLine() throws IOException {
+		AccountImportReportDto report = importCsv(document() + ",Rafael Silva,0\n");
+
+		assertThat(report.imported()).isEqualTo(1);
+		assertThat(report.rejected()).isZero();
+	}
+
+	@Test
+	void duplicateDocumentsInTheFileAreRejectedAcrossChunks() throws IOException {
+		String document = document();
+
+		AccountImportReportDto report = importCsv("""
+				%s,First Holder,0
+				%s,Other Holder,0
+				%s,Other Holder,0
+				%s,Second Holder,0
+				""".formatted(document, document(), document(), document));
+
+		assertThat(report.imported()).isEqualTo(3);
+		assertThat(report.rejectedRows()).containsExactly(
+				new RejectedRowDto(4, document, "Duplicate document in file"));
+		assertThat(holderName(document)).isEqualTo("First Holder");
+	}
+
+	@Test
+	void alreadyRegisteredDocumentsAreRejected() throws IOException {
+		String existing = register();
+		String fresh = document();
+
+		AccountImportReportDto report = importCsv("""
+				%s,Existing Holder,0
+				%s,Fresh Holder,0
+				""".formatted(existing, fresh));
+
+		assertThat(report.imported()).isEqualTo(1);
+		assertThat(report.rejectedRows()).containsExactly(
+				new RejectedRowDto(1, existing, "Document already registered"));
+	}
+
+	@Test
+	void documentRegisteredDuringTheImportOnlyRejectsItsOwnRow() throws IOException {
+		String raced = register();
+		String fresh = document();
+		// The pre-insert lookup misses the document, as if createAccount had committed right after it
+		doReturn(List.of()).when(namedParameterJdbcTemplate)
+				.queryForList(startsWith("SELECT document"), anyMap(), eq(String.class));
+
+		AccountImportReportDto report = importCsv("""
+				%s,Raced Holder,0
+				%s,Fresh Holder,0
+				""".formatted(raced, fresh));
+
+		assertThat(report.imported()).isEqualTo(1);
+		assertThat(report.rejectedRows()).containsExactly(
+				new RejectedRowDto(1, raced, "Document already registered"));
+		assertThat(holderName(fresh)).isEqualTo("Fresh Holder");
+	}
+
+	@Test
+	void ndjsonNullAndMalformedLinesAreReportedWithoutStoppingTheImport() throws IOException {
+		String document = document();
+
+		AccountImportReportDto report = importNdjson("""
+				null
+				{"document": "broken"
+				{"document": "%s", "holderName": "Rafael Silva", "balance": 5}
+				""".formatted(document));
+
+		assertThat(report.received()).isEqualTo(3);
+		assertThat(report.imported()).isEqualTo(1);
+		assertThat(report.rejected()).isEqualTo(2);
+		assertThat(report.rejectedRows().get(0).reason()).isEqualTo("Malformed row: expected an account object");
+		assertThat(report.rejectedRows().get(1).reason()).startsWith("Malformed row:");
+	}
+
+	@Test
+	void invalidRowsAreReportedWithTheirViolations() throws IOException {
+		AccountImportReportDto report = importCsv("123,Rafael Silva,-1\n");
+
+		assertThat(report.imported()).isZero();
+		assertThat(report.rejectedRows()).hasSize(1);
+		assertThat(report.rejectedRows().get(0).reason())
+				.contains("balance: Initial balance cannot be negative", "document: Document must be between 11 and 14 characters");
+	}
+
+	@Test
+	void rejectionReportIsCappedButCountsEveryRejection() throws IOException {
+		AccountImportReportDto report = importCsv("""
+				1,Rafael Silva,0
+				2,Rafael Silva,0
+				3,Rafael Silva,0
+				""");
+
+		assertThat(report.rejected()).isEqualTo(3);
+		assertThat(report.rejectedRows()).hasSize(2);
+	}
+
+	private AccountImportReportDto importCsv(String content) throws IOException {
+		return accountImportService.importAccounts(stream(content), AccountImportService.Format.CSV);
+	}
+
+	private AccountImportReportDto importNdjson(String content) throws IOException {
+		return accountImportService.importAccounts(stream(content), AccountImportService.Format.NDJSON);
+	}
+
+	private String register() {
+		return accountRepository.save(Account.builder()
+				.document(document())
+				.holderName("Registered Holder")
+				.balance(BigDecimal.ZERO)
+				.createdAt(LocalDateTime.now())
+				.status(AccountStatus.ACTIVE)
+				.build()).getDocument();
+	}
+
+	private String holderName(String document) {
+		return jdbcTemplate.queryForObject("SELECT holder_name FROM accounts WHERE document = ?", String.class, document);
+	}
+
+	private static ByteArrayInputStream stream(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String document() {
+		return String.format("%011d", ThreadLocalRandom.current().nextLong(100_000_000_000L));
+	}
+
+}
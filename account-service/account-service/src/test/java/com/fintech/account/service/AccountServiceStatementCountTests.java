@@ -0,0 +1,100 @@
+package com.fintech.account.service;
+
+import com.fintech.account.model.Account;
+import com.fintech.account.model.AccountStatus;
+import com.fintech.account.repository.AccountRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:statements;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.kafka.admin.auto-create=false",
+		"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class AccountServiceStatementCountTests {
+
+	@Autowired
+	private AccountService accountService;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@MockitoBean
+	private TransferEventProducer transferEventProducer;
+
+	@MockitoBean
+	private AccountEventProducer accountEventProducer;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void transferUsesFiveStatements() {
+		Account sender = createAccount(new BigDecimal("100.00"));
+		Account receiver = createAccount(BigDecimal.ZERO);
+		statistics.clear();
+
+		accountService.transfer(UUID.randomUUID().toString(), new BigDecimal("10.00"), sender.getId(), receiver.getId());
+
+		// idempotency lookup, both accounts, transaction insert, request insert, one batched account update
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+		assertThat(statistics.getEntityUpdateCount()).isEqualTo(2);
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(2);
+	}
+
+	@Test
+	void repeatedIdempotencyKeyOnlyLooksUpTheRequest() {
+		Account sender = createAccount(new BigDecimal("100.00"));
+		Account receiver = createAccount(BigDecimal.ZERO);
+		String idempotencyKey = UUID.randomUUID().toString();
+		accountService.transfer(idempotencyKey, new BigDecimal("10.00"), sender.getId(), receiver.getId());
+		statistics.clear();
+
+		accountService.transfer(idempotencyKey, new BigDecimal("10.00"), sender.getId(), receiver.getId());
+
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+
+	@Test
+	void generatedIdsAreTimeOrdered() {
+		Account first = createAccount(BigDecimal.ZERO);
+		Account second = createAccount(BigDecimal.ZERO);
+
+		assertThat(first.getId().version()).isEqualTo(7);
+		assertThat(first.getId().getMostSignificantBits() >>> 16)
+				.isLessThanOrEqualTo(second.getId().getMostSignificantBits() >>> 16);
+	}
+
+	private Account createAccount(BigDecimal balance) {
+		return accountRepository.save(Account.builder()
+				.document(UUID.randomUUID().toString().substring(0, 14))
+				.holderName("Statement Count")
+				.balance(balance)
+				.createdAt(LocalDateTime.now())
+				.status(AccountStatus.ACTIVE)
+				.build());
+	}
+
+}
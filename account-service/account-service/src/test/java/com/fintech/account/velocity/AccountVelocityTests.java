@@ -0,0 +1,152 @@
+package com.fintech.account.velocity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountVelocityTests {
+
+	private static final long WINDOW = 60_000;
+	private static final int BUCKETS = 6;
+	private static final long BUCKET = WINDOW / BUCKETS;
+	private static final long START = 1_000 * BUCKET;
+
+	private static final VelocityLimits LIMITS = new VelocityLimits(3, 10_000, 2, 5_000);
+
+	@Test
+	void countRuleRejectsTheTransferAfterTheLimit() {
+		AccountVelocity velocity = new AccountVelocity(WINDOW, BUCKETS, START);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(velocity.reserve(START, 100, false, LIMITS).accepted()).isTrue();
+		}
+
+		assertThat(velocity.reserve(START, 100, false, LIMITS).brokenRule()).isEqualTo(AccountVelocity.Rule.COUNT);
+	}
+
+	@Test
+	void amountRuleRejectsTheTransferThatCrossesTheLimit() {
+		AccountVelocity velocity = new AccountVelocity(WINDOW, BUCKETS, START);
+
+		assertThat(velocity.reserve(START, 9_000, false, LIMITS).accepted()).isTrue();
+
+		assertThat(velocity.reserve(START, 1_001, false, LIMITS).brokenRule()).isEqualTo(AccountVelocity.Rule.AMOUNT);
+		assertThat(velocity.reserve(START, 1_000, false, LIMITS).accepted()).isTrue();
+	}
+
+	@Test
+	void newReceiverCountRuleOnlyAppliesToNewReceivers() {
+		AccountVelocity velocity = new AccountVelocity(WINDOW, BUCKETS, START);
+
+		assertThat(velocity.reserve(START, 100, true, LIMITS).accepted()).isTrue();
+		assertThat(velocity.reserve(START, 100, true, LIMITS).accepted()).isTrue();
+
+		assertThat(velocity.reserve(START, 100, true, LIMITS).brokenRule()).isEqualTo(AccountVelocity.Rule.NEW_RECEIVER_COUNT);
+		assertThat(velocity.reserve(START, 100, false, LIMITS).accepted()).isTrue();
+	}
+
+	@Test
+	void newReceiverAmountRuleOnlyAppliesToNewReceivers() {
+		AccountVelocity velocity = new AccountVelocity(WINDOW, BUCKETS, START);
+
+		assertThat(velocity.reserve(START, 4_000, true, LIMITS).accepted()).isTrue();
+
+		assertThat(velocity.reserve(START, 1_001, true, LIMITS).brokenRule()).isEqualTo(AccountVelocity.Rule.NEW_RECEIVER_AMOUNT);
+		assertThat(velocity.reserve(START, 1_001, false, LIMITS).accepted()).isTrue();
+	}
+
+	@Test
+	void rejectedTransfersAreNotCounted() {
+		AccountVelocity velocity = new AccountVelocity(WINDOW, BUCKETS, START);
+
+		assertThat(velocity.reserve(START, 10_001, false, LIMITS).accepted()).isFalse();
+
+		assertThat(velocity.reserve(START, 10_000, false, LIMITS).accepted()).isTrue();
+	}
+
+	@Test
+	void oldestBucketLeavesTheWindowAsTimeSlides() {
+		AccountVelocity velocity = new AccountVelocity(WINDOW, BUCKETS, START);
+		velocity.reserve(START, 100, false, LIMITS);
+		velocity.reserve(START + 2 * BUCKET, 100, false, LIMITS);
+		velocity.reserve(START + 3 * BUCKET, 100, false, LIMITS);
+
+		// Still inside the window of the first transfer
+		assertThat(velocity.reserve(START + 5 * BUCKET, 100, false, LIMITS).brokenRule()).isEqualTo(AccountVelocity.Rule.COUNT);
+
+		// The first bucket has expired, the other two are still counted
+		assertThat(velocity.reserve(START + 6 * BUCKET, 100, false, LIMITS).accepted()).isTrue();
+		assertThat(velocity.reserve(START + 6 * BUCKET, 100, false, LIMITS).brokenRule()).isEqualTo(AccountVelocity.Rule.COUNT);
+	}
+
+	@Test
+	void idleLongerThanTheWindowResetsEverything() {
+		AccountVelocity velocity = new AccountVelocity(WINDOW, BUCKETS, START);
+		velocity.reserve(START, 4_000, true, LIMITS);
+		velocity.reserve(START + BUCKET, 4_000, false, LIMITS);
+		velocity.reserve(START + 2 * BUCKET, 1_000, true, LIMITS);
+
+		long later = START + 2 * BUCKET + 10 * WINDOW;
+		assertThat(velocity.reserve(later, 5_000, true, LIMITS).accepted()).isTrue();
+		assertThat(velocity.reserve(later, 5_000, true, LIMITS).brokenRule()).isEqualTo(AccountVelocity.Rule.NEW_RECEIVER_AMOUNT);
+		assertThat(velocity.reserve(later, 5_000, false, LIMITS).accepted()).isTrue();
+	}
+
+	@Test
+	void releaseGivesTheReservationBack() {
+		AccountVelocity velocity = new AccountVelocity(WINDOW, BUCKETS, START);
+		AccountVelocity.Reservation first = velocity.reserve(START, 5_000, true, LIMITS);
+		velocity.reserve(START + BUCKET, 5_000, false, LIMITS);
+
+		velocity.release(first.bucket(), 5_000, true);
+
+		assertThat(velocity.reserve(START + BUCKET, 5_000, true, LIMITS).accepted()).isTrue();
+		assertThat(velocity.reserve(START + BUCKET, 100, false, LIMITS).brokenRule()).isEqualTo(AccountVelocity.Rule.AMOUNT);
+	}
+
+	@Test
+	void releasingAnExpiredBucketLeavesTheTotalsAlone() {
+		AccountVelocity velocity = new AccountVelocity(WINDOW, BUCKETS, START);
+		AccountVelocity.Reservation expired = velocity.reserve(START, 100, false, LIMITS);
+
+		long later = START + BUCKETS * BUCKET;
+		for (int i = 0; i < 3; i++) {
+			velocity.reserve(later, 100, false, LIMITS);
+		}
+		velocity.release(expired.bucket(), 100, false);
+
+		assertThat(velocity.reserve(later, 100, false, LIMITS).brokenRule()).isEqualTo(AccountVelocity.Rule.COUNT);
+	}
+
+	@Test
+	void concurrentReservationsNeverExceedTheCount() throws Exception {
+		AccountVelocity velocity = new AccountVelocity(WINDOW, BUCKETS, START);
+		VelocityLimits limits = new VelocityLimits(50, Long.MAX_VALUE, 50, Long.MAX_VALUE);
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Callable<Boolean>> attempts = new ArrayList<>();
+			for (int i = 0; i < 400; i++) {
+				attempts.add(() -> velocity.reserve(START, 100, true, limits).accepted());
+			}
+
+			int accepted = 0;
+			for (Future<Boolean> result : executor.invokeAll(attempts)) {
+				if (result.get()) {
+					accepted++;
+				}
+			}
+			assertThat(accepted).isEqualTo(50);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
@@ -0,0 +1,95 @@
+package com.fintech.account.velocity;
+
+import com.fintech.account.exception.InvalidTransactionException;
+import com.fintech.account.exception.VelocityLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VelocityServiceTests {
+
+	private static final BigDecimal AMOUNT = new BigDecimal("10.00");
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void releasedTransferToANewReceiverDoesNotMakeItKnown() {
+		VelocityService velocityService = service(100, 1, 10, 10);
+		UUID sender = UUID.randomUUID();
+		UUID receiver = UUID.randomUUID();
+
+		velocityService.reserve(sender, receiver, AMOUNT).release();
+
+		velocityService.reserve(sender, receiver, AMOUNT);
+		assertThatThrownBy(() -> velocityService.reserve(sender, UUID.randomUUID(), AMOUNT))
+				.isInstanceOf(VelocityLimitExceededException.class);
+	}
+
+	@Test
+	void knownReceiverIsNotCountedAsNew() {
+		VelocityService velocityService = service(100, 1, 10, 10);
+		UUID sender = UUID.randomUUID();
+		UUID receiver = UUID.randomUUID();
+
+		velocityService.reserve(sender, receiver, AMOUNT);
+
+		velocityService.reserve(sender, receiver, AMOUNT);
+		velocityService.reserve(sender, receiver, AMOUNT);
+	}
+
+	@Test
+	void fullSenderTableLetsNewSendersThrough() {
+		VelocityService velocityService = service(1, 1, 1, 10);
+		velocityService.reserve(UUID.randomUUID(), UUID.randomUUID(), AMOUNT);
+
+		UUID untracked = UUID.randomUUID();
+		velocityService.reserve(untracked, UUID.randomUUID(), AMOUNT);
+		velocityService.reserve(untracked, UUID.randomUUID(), AMOUNT);
+
+		assertThat(meterRegistry.counter("velocity.untracked", "kind", "account").count()).isEqualTo(2.0);
+	}
+
+	@Test
+	void fullPairTableDoesNotTreatUntrackedPairsAsNewReceivers() {
+		VelocityService velocityService = service(100, 1, 10, 1);
+		UUID sender = UUID.randomUUID();
+		velocityService.reserve(sender, UUID.randomUUID(), AMOUNT);
+
+		velocityService.reserve(sender, UUID.randomUUID(), AMOUNT);
+		velocityService.reserve(sender, UUID.randomUUID(), AMOUNT);
+
+		assertThat(meterRegistry.counter("velocity.untracked", "kind", "pair").count()).isEqualTo(2.0);
+	}
+
+	@Test
+	void amountBeyondTheCentsRangeIsInvalidRatherThanAnOverflow() {
+		VelocityService velocityService = service(100, 1, 10, 10);
+
+		assertThatThrownBy(() -> velocityService.reserve(UUID.randomUUID(), UUID.randomUUID(), new BigDecimal("1e30")))
+				.isInstanceOf(InvalidTransactionException.class)
+				.hasMessage("Amount is out of range");
+	}
+
+	private VelocityService service(int maxCount, int maxNewReceivers, int maxTrackedAccounts, int maxTrackedPairs) {
+		VelocityProperties properties = new VelocityProperties(
+				true,
+				Duration.ofHours(1),
+				12,
+				maxCount,
+				new BigDecimal("1000000.00"),
+				maxNewReceivers,
+				new BigDecimal("1000000.00"),
+				Duration.ofDays(30),
+				maxTrackedAccounts,
+				maxTrackedPairs
+		);
+		return new VelocityService(properties, meterRegistry);
+	}
+
+}
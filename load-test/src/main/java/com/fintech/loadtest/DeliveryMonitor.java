@@ -0,0 +1,135 @@
+package com.fintech.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.GroupState;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures event delivery from outside notification-service: a transfer event counts as delivered
+ * once the service's consumer group has committed past it, and its latency runs from the record's
+ * producer timestamp until that commit is observed. Commits are checked every
+ * {@value #CHECK_INTERVAL_MILLIS} ms, which bounds the added error.
+ */
+public class DeliveryMonitor implements AutoCloseable {
+
+    private static final String TOPIC = "transfer.completed";
+    private static final String GROUP_ID = "notification-service-group";
+    private static final long CHECK_INTERVAL_MILLIS = 10;
+
+    private record Published(long offset, long timestamp) {}
+
+    private final Consumer<byte[], byte[]> consumer;
+    private final Admin admin;
+    private final List<TopicPartition> partitions;
+    private final Map<TopicPartition, ArrayDeque<Published>> pending = new HashMap<>();
+    private final Recorder recorder = new Recorder(3);
+    private final LongAdder delivered = new LongAdder();
+    private final Thread thread;
+
+    private volatile boolean running = true;
+
+    public DeliveryMonitor(String bootstrapServers) {
+        this.consumer = new KafkaConsumer<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false
+        ), new ByteArrayDeserializer(), new ByteArrayDeserializer());
+        this.admin = Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers));
+
+        this.partitions = consumer.partitionsFor(TOPIC).stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+        consumer.assign(partitions);
+        consumer.seekToEnd(partitions);
+        partitions.forEach(consumer::position);
+
+        this.thread = Thread.ofPlatform().daemon().name("delivery-monitor").start(this::run);
+    }
+
+    /**
+     * @return whether every partition of the transfer topic is assigned to a notification-service consumer
+     */
+    public boolean consumersReady() {
+        try {
+            ConsumerGroupDescription group = admin.describeConsumerGroups(List.of(GROUP_ID))
+                    .describedGroups().get(GROUP_ID).get();
+            int assigned = group.members().stream()
+                    .mapToInt(member -> member.assignment().topicPartitions().size())
+                    .sum();
+            return group.groupState() == GroupState.STABLE && assigned >= partitions.size();
+        } catch (ExecutionException ex) {
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void run() {
+        while (running) {
+            for (ConsumerRecord<byte[], byte[]> record : consumer.poll(Duration.ofMillis(CHECK_INTERVAL_MILLIS))) {
+                pending.computeIfAbsent(new TopicPartition(record.topic(), record.partition()), partition -> new ArrayDeque<>())
+                        .add(new Published(record.offset(), record.timestamp()));
+            }
+
+            Map<TopicPartition, OffsetAndMetadata> committed;
+            try {
+                committed = admin.listConsumerGroupOffsets(GROUP_ID)
+                        .partitionsToOffsetAndMetadata()
+                        .get(CHECK_INTERVAL_MILLIS * 100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                return;
+            } catch (Exception ex) {
+                continue;
+            }
+
+            long now = System.currentTimeMillis();
+            committed.forEach((partition, offset) -> {
+                ArrayDeque<Published> published = pending.get(partition);
+                while (offset != null && published != null && !published.isEmpty()
+                        && published.peek().offset() < offset.offset()) {
+                    recorder.recordValue(Math.max(0, now - published.poll().timestamp()) * 1000);
+                    delivered.increment();
+                }
+            });
+        }
+    }
+
+    public Histogram intervalHistogram() {
+        return recorder.getIntervalHistogram();
+    }
+
+    public long delivered() {
+        return delivered.sum();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        consumer.close();
+        admin.close();
+    }
+}
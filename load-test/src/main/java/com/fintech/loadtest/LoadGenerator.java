@@ -0,0 +1,255 @@
+package com.fintech.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Open-model load generator: requests are dispatched on a fixed schedule regardless of how fast
+ * the service answers, so a slow response does not delay the next arrival.
+ */
+public class LoadGenerator {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*\"([0-9a-fA-F-]{36})\"");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DELIVERY_DRAIN_TIMEOUT = Duration.ofSeconds(30);
+    private static final int RECENT_TRANSFERS = 1024;
+
+    private static final String DEPOSIT_AMOUNT = "10.00";
+    private static final String WITHDRAW_AMOUNT = "1.00";
+    private static final String TRANSFER_AMOUNT = "1.00";
+
+    private record TransferCall(String idempotencyKey, UUID from, UUID to) {}
+
+    private final LoadTestConfig config;
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final OperationStats deposits = new OperationStats("deposit");
+    private final OperationStats withdrawals = new OperationStats("withdraw");
+    private final OperationStats transfers = new OperationStats("transfer");
+
+    private final AtomicReferenceArray<TransferCall> recentTransfers = new AtomicReferenceArray<>(RECENT_TRANSFERS);
+    private final AtomicLong transferSequence = new AtomicLong();
+    private final LongAdder publishedTransfers = new LongAdder();
+
+    public LoadGenerator(LoadTestConfig config, String baseUrl) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public List<UUID> seedAccounts() {
+        List<Future<UUID>> futures = new ArrayList<>(config.accounts());
+        for (int i = 0; i < config.accounts(); i++) {
+            int index = i;
+            futures.add(executor.submit(() -> createAccount(index)));
+        }
+
+        List<UUID> accounts = new ArrayList<>(config.accounts());
+        for (Future<UUID> future : futures) {
+            try {
+                accounts.add(future.get());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while seeding accounts", ex);
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException("Failed to seed accounts", ex.getCause());
+            }
+        }
+        return accounts;
+    }
+
+    public LoadTestReport run(List<UUID> accounts, DeliveryMonitor deliveries) {
+        ZipfDistribution popularity = new ZipfDistribution(accounts.size(), config.zipfExponent());
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.ratePerSecond();
+        long start = System.nanoTime();
+        long measurementStart = start + TimeUnit.SECONDS.toNanos(config.warmupSeconds());
+        long end = measurementStart + TimeUnit.SECONDS.toNanos(config.durationSeconds());
+        boolean measuring = config.warmupSeconds() == 0;
+
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * intervalNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            if (!measuring && intendedStart >= measurementStart) {
+                deposits.reset();
+                withdrawals.reset();
+                transfers.reset();
+                deliveries.intervalHistogram();
+                measuring = true;
+            }
+
+            executor.execute(() -> dispatch(accounts, popularity, intendedStart));
+        }
+
+        double measuredSeconds = (System.nanoTime() - measurementStart) / 1e9;
+
+        awaitInFlightRequests();
+        awaitDeliveries(deliveries);
+
+        List<LoadTestReport.Result> results = List.of(result(deposits), result(withdrawals), result(transfers));
+
+        return new LoadTestReport(
+                config.ratePerSecond(),
+                measuredSeconds,
+                results,
+                deliveries.intervalHistogram(),
+                publishedTransfers.sum(),
+                deliveries.delivered(),
+                config.admissionEnabled(),
+                config.velocityEnabled()
+        );
+    }
+
+    private void dispatch(List<UUID> accounts, ZipfDistribution popularity, long intendedStart) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int operation = random.nextInt(config.totalWeight());
+
+        if (operation < config.depositWeight()) {
+            UUID account = accounts.get(popularity.sample(random));
+            send(deposits, intendedStart, patch("/api/v1/accounts/" + account + "/deposit?amount=" + DEPOSIT_AMOUNT));
+        } else if (operation < config.depositWeight() + config.withdrawWeight()) {
+            UUID account = accounts.get(popularity.sample(random));
+            send(withdrawals, intendedStart, patch("/api/v1/accounts/" + account + "/withdraw?amount=" + WITHDRAW_AMOUNT));
+        } else {
+            TransferCall previous = random.nextDouble() < config.duplicateKeyRatio()
+                    ? recentTransfers.get(random.nextInt(RECENT_TRANSFERS))
+                    : null;
+            boolean duplicate = previous != null;
+            TransferCall call = duplicate ? previous : freshTransfer(accounts, popularity, random);
+
+            int status = send(transfers, intendedStart, transfer(call));
+            if (status >= 200 && status < 300 && !duplicate) {
+                publishedTransfers.increment();
+            }
+        }
+    }
+
+    private TransferCall freshTransfer(List<UUID> accounts, ZipfDistribution popularity, ThreadLocalRandom random) {
+        UUID from = accounts.get(popularity.sample(random));
+        UUID to = accounts.get(popularity.sample(random));
+        while (to.equals(from) && accounts.size() > 1) {
+            to = accounts.get(random.nextInt(accounts.size()));
+        }
+
+        TransferCall call = new TransferCall(UUID.randomUUID().toString(), from, to);
+        recentTransfers.set((int) (transferSequence.getAndIncrement() % RECENT_TRANSFERS), call);
+        return call;
+    }
+
+    private int send(OperationStats stats, long intendedStart, HttpRequest request) {
+        int status;
+        try {
+            status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException ex) {
+            status = OperationStats.IO_ERROR;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            status = OperationStats.IO_ERROR;
+        }
+        stats.record(intendedStart, status);
+        return status;
+    }
+
+    private UUID createAccount(int index) throws IOException, InterruptedException {
+        String body = """
+                {"document": "%011d", "holderName": "Load Test %d", "balance": %s}
+                """.formatted(index, index, config.initialBalance().toPlainString());
+
+        HttpResponse<String> created = httpClient.send(
+                request("/api/v1/accounts")
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString()
+        );
+
+        Matcher matcher = ID_PATTERN.matcher(created.body());
+        if (created.statusCode() >= 300 || !matcher.find()) {
+            throw new IllegalStateException("Account creation failed: " + created.statusCode() + " " + created.body());
+        }
+        return UUID.fromString(matcher.group(1));
+    }
+
+    private HttpRequest transfer(TransferCall call) {
+        String body = """
+                {"fromAccountId": "%s", "toAccountId": "%s", "amount": %s}
+                """.formatted(call.from(), call.to(), TRANSFER_AMOUNT);
+
+        return request("/api/v1/accounts/" + call.from() + "/transfer")
+                .header("Content-Type", "application/json")
+                .header("Idempotency-Key", call.idempotencyKey())
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest patch(String path) {
+        return request(path)
+                .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT);
+    }
+
+    private void awaitInFlightRequests() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(REQUEST_TIMEOUT.toSeconds() * 2, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitDeliveries(DeliveryMonitor deliveries) {
+        long deadline = System.nanoTime() + DELIVERY_DRAIN_TIMEOUT.toNanos();
+        while (deliveries.delivered() < publishedTransfers.sum() && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+    }
+
+    private static LoadTestReport.Result result(OperationStats stats) {
+        return new LoadTestReport.Result(
+                stats.name(),
+                stats.intervalHistogram(),
+                stats.statuses(),
+                stats.total(),
+                stats.successful()
+        );
+    }
+}
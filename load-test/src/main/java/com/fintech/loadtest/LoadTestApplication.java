@@ -0,0 +1,29 @@
+package com.fintech.loadtest;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Entry point for the load and soak test. Settings are read from {@code loadtest.*} system
+ * properties, e.g.
+ * {@code mvn -f load-test/pom.xml exec:java -Dloadtest.rate=500 -Dloadtest.duration-seconds=600}
+ * once both services have been built with {@code mvn install -DskipTests}. The account-service
+ * database is the one from its {@code application.yaml} ({@code docker compose up -d postgres});
+ * pass {@code -Dloadtest.jdbc-url=jdbc:h2:mem:loadtest;MODE=PostgreSQL;DB_CLOSE_DELAY=-1} for a
+ * run without one.
+ */
+public class LoadTestApplication {
+
+    public static void main(String[] args) {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        try (LoadTestEnvironment environment = LoadTestEnvironment.start(config)) {
+            LoadGenerator generator = new LoadGenerator(config, environment.accountServiceUrl());
+
+            List<UUID> accounts = generator.seedAccounts();
+            LoadTestReport report = generator.run(accounts, environment.deliveries());
+
+            report.print(System.out, config.histogramOutput());
+        }
+    }
+}
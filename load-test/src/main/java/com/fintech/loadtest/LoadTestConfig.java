@@ -0,0 +1,71 @@
+package com.fintech.loadtest;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * The database settings are optional: when unset, account-service keeps the datasource from its
+ * own {@code application.yaml}. Admission control and velocity limits are off unless enabled,
+ * because all load comes from a single client and would otherwise mostly measure rejections.
+ */
+public record LoadTestConfig(
+        int ratePerSecond,
+        int durationSeconds,
+        int warmupSeconds,
+        int accounts,
+        double zipfExponent,
+        int depositWeight,
+        int withdrawWeight,
+        int transferWeight,
+        double duplicateKeyRatio,
+        BigDecimal initialBalance,
+        String jdbcUrl,
+        String jdbcUsername,
+        String jdbcPassword,
+        boolean admissionEnabled,
+        boolean velocityEnabled,
+        boolean histogramOutput,
+        Path accountServiceJar,
+        Path notificationServiceJar
+) {
+
+    private static final String PREFIX = "loadtest.";
+
+    public static LoadTestConfig fromSystemProperties() {
+        return from(System.getProperties());
+    }
+
+    public static LoadTestConfig from(Properties properties) {
+        return new LoadTestConfig(
+                Integer.parseInt(get(properties, "rate", "200")),
+                Integer.parseInt(get(properties, "duration-seconds", "60")),
+                Integer.parseInt(get(properties, "warmup-seconds", "10")),
+                Integer.parseInt(get(properties, "accounts", "1000")),
+                Double.parseDouble(get(properties, "zipf-exponent", "1.1")),
+                Integer.parseInt(get(properties, "mix.deposit", "20")),
+                Integer.parseInt(get(properties, "mix.withdraw", "20")),
+                Integer.parseInt(get(properties, "mix.transfer", "60")),
+                Double.parseDouble(get(properties, "duplicate-key-ratio", "0.05")),
+                new BigDecimal(get(properties, "initial-balance", "1000000.00")),
+                get(properties, "jdbc-url", null),
+                get(properties, "jdbc-username", null),
+                get(properties, "jdbc-password", null),
+                Boolean.parseBoolean(get(properties, "admission-enabled", "false")),
+                Boolean.parseBoolean(get(properties, "velocity-enabled", "false")),
+                Boolean.parseBoolean(get(properties, "histogram-output", "false")),
+                Path.of(get(properties, "account-service-jar",
+                        "../account-service/account-service/target/account-service-0.0.1-SNAPSHOT-exec.jar")),
+                Path.of(get(properties, "notification-service-jar",
+                        "../notification-service/notification-service/target/notification-service-0.0.1-SNAPSHOT-exec.jar"))
+        );
+    }
+
+    public int totalWeight() {
+        return depositWeight + withdrawWeight + transferWeight;
+    }
+
+    private static String get(Properties properties, String key, String defaultValue) {
+        return properties.getProperty(PREFIX + key, defaultValue);
+    }
+}
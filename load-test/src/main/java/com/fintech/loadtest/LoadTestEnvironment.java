@@ -0,0 +1,153 @@
+package com.fintech.loadtest;
+
+import org.h2.Driver;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs an embedded Kafka broker and launches account-service and notification-service from their
+ * executable jars, each in its own JVM with its own {@code application.yaml}. Besides the broker,
+ * the port and an optional database, the harness only overrides the admission and velocity
+ * switches, so the throughput measured is that of the settings that ship.
+ */
+public class LoadTestEnvironment implements AutoCloseable {
+
+    private static final String TOPIC = "transfer.completed";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final EmbeddedKafkaBroker kafka;
+    private final int accountServicePort;
+    private ServiceProcess accountService;
+    private ServiceProcess notificationService;
+    private DeliveryMonitor deliveries;
+
+    private LoadTestEnvironment() {
+        // account-service declares the compacted balance topic itself; auto-create would race it
+        this.kafka = new EmbeddedKafkaKraftBroker(1, 3, TOPIC)
+                .brokerProperty("auto.create.topics.enable", false);
+        this.accountServicePort = freePort();
+    }
+
+    public static LoadTestEnvironment start(LoadTestConfig config) {
+        LoadTestEnvironment environment = new LoadTestEnvironment();
+        try {
+            environment.kafka.afterPropertiesSet();
+            environment.deliveries = new DeliveryMonitor(environment.kafka.getBrokersAsString());
+            environment.accountService = environment.startAccountService(config);
+            await(environment.accountService, environment::accountServiceHealthy);
+
+            environment.notificationService = environment.startNotificationService(config);
+            await(environment.notificationService, environment.deliveries::consumersReady);
+            return environment;
+        } catch (IOException ex) {
+            environment.close();
+            throw new UncheckedIOException(ex);
+        } catch (RuntimeException ex) {
+            environment.close();
+            throw ex;
+        }
+    }
+
+    private ServiceProcess startAccountService(LoadTestConfig config) throws IOException {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--server.port=" + accountServicePort,
+                "--spring.kafka.bootstrap-servers=" + kafka.getBrokersAsString(),
+                "--admission.enabled=" + config.admissionEnabled(),
+                "--velocity.enabled=" + config.velocityEnabled()
+        ));
+        List<Path> loaderPath = new ArrayList<>();
+
+        if (config.jdbcUrl() != null) {
+            arguments.add("--spring.datasource.url=" + config.jdbcUrl());
+            // H2 is not packaged with the service, so the driver comes from the harness classpath
+            if (config.jdbcUrl().startsWith("jdbc:h2:")) {
+                arguments.add("--spring.datasource.driver-class-name=" + Driver.class.getName());
+                loaderPath.add(ServiceProcess.jarOf(Driver.class));
+            }
+        }
+        if (config.jdbcUsername() != null) {
+            arguments.add("--spring.datasource.username=" + config.jdbcUsername());
+        }
+        if (config.jdbcPassword() != null) {
+            arguments.add("--spring.datasource.password=" + config.jdbcPassword());
+        }
+
+        return ServiceProcess.start("account-service", config.accountServiceJar(), loaderPath, arguments);
+    }
+
+    private ServiceProcess startNotificationService(LoadTestConfig config) throws IOException {
+        return ServiceProcess.start("notification-service", config.notificationServiceJar(), List.of(), List.of(
+                "--spring.kafka.bootstrap-servers=" + kafka.getBrokersAsString()
+        ));
+    }
+
+    private boolean accountServiceHealthy() {
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(accountServiceUrl() + "/actuator/health"))
+                    .timeout(Duration.ofSeconds(2))
+                    .build();
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException ex) {
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void await(ServiceProcess service, BooleanSupplier ready) {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (!ready.getAsBoolean()) {
+            service.checkAlive();
+            if (System.nanoTime() > deadline || Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException(service.name() + " did not become ready within " + STARTUP_TIMEOUT);
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(200));
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public String accountServiceUrl() {
+        return "http://localhost:" + accountServicePort;
+    }
+
+    public DeliveryMonitor deliveries() {
+        return deliveries;
+    }
+
+    @Override
+    public void close() {
+        if (notificationService != null) {
+            notificationService.close();
+        }
+        if (accountService != null) {
+            accountService.close();
+        }
+        if (deliveries != null) {
+            deliveries.close();
+        }
+        kafka.destroy();
+    }
+}
@@ -0,0 +1,77 @@
+package com.fintech.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+
+public record LoadTestReport(
+        int targetRate,
+        double measuredSeconds,
+        List<Result> operations,
+        Histogram deliveryLatency,
+        long expectedDeliveries,
+        long deliveredEvents,
+        boolean admissionEnabled,
+        boolean velocityEnabled
+) {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    public record Result(String name, Histogram latency, Map<Integer, Long> statuses, long total, long successful) {
+
+        public double errorRate() {
+            return total == 0 ? 0 : (double) (total - successful) / total;
+        }
+    }
+
+    public long totalRequests() {
+        return operations.stream().mapToLong(Result::total).sum();
+    }
+
+    public long successfulRequests() {
+        return operations.stream().mapToLong(Result::successful).sum();
+    }
+
+    public double errorRate() {
+        long total = totalRequests();
+        return total == 0 ? 0 : (double) (total - successfulRequests()) / total;
+    }
+
+    public void print(PrintStream out, boolean histogramOutput) {
+        out.printf("%n=== Load test report ===%n");
+        out.printf("target rate: %d req/s, measured window: %.1f s%n", targetRate, measuredSeconds);
+        out.printf("admission control: %s, velocity limits: %s%n",
+                admissionEnabled ? "ON" : "off", velocityEnabled ? "ON" : "off");
+        if (admissionEnabled || velocityEnabled) {
+            out.printf("limits are on: all load comes from one client, so rejections (429/400) are expected%n");
+        }
+        out.printf("throughput: %.1f req/s (%.1f successful req/s), error rate: %.2f%%%n",
+                totalRequests() / measuredSeconds,
+                successfulRequests() / measuredSeconds,
+                errorRate() * 100);
+
+        for (Result result : operations) {
+            out.printf("%n[%s] requests: %d, error rate: %.2f%%, statuses: %s%n",
+                    result.name(), result.total(), result.errorRate() * 100, result.statuses());
+            printLatency(out, result.latency(), histogramOutput);
+        }
+
+        out.printf("%n[event delivery] delivered: %d of %d expected%n", deliveredEvents, expectedDeliveries);
+        printLatency(out, deliveryLatency, histogramOutput);
+    }
+
+    private static void printLatency(PrintStream out, Histogram histogram, boolean histogramOutput) {
+        out.printf("latency ms: p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f%n",
+                histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(90) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+                histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+                histogram.getMaxValue() / MICROS_PER_MILLI);
+
+        if (histogramOutput) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+}
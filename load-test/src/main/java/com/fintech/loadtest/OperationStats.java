@@ -0,0 +1,61 @@
+package com.fintech.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class OperationStats {
+
+    public static final int IO_ERROR = -1;
+
+    private final String name;
+    private final Recorder recorder = new Recorder(3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    public OperationStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Latency is taken from the intended start time, not the actual send time, so a stalled
+     * service is charged for the requests that queued up behind it.
+     */
+    public void record(long intendedStartNanos, int status) {
+        recorder.recordValue(Math.max(0, (System.nanoTime() - intendedStartNanos) / 1000));
+        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Histogram intervalHistogram() {
+        return recorder.getIntervalHistogram();
+    }
+
+    public Map<Integer, Long> statuses() {
+        Map<Integer, Long> snapshot = new TreeMap<>();
+        statuses.forEach((status, count) -> snapshot.put(status, count.sum()));
+        return snapshot;
+    }
+
+    public long total() {
+        return statuses.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public long successful() {
+        return statuses.entrySet().stream()
+                .filter(entry -> entry.getKey() >= 200 && entry.getKey() < 300)
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+    }
+
+    public void reset() {
+        recorder.reset();
+        statuses.clear();
+    }
+}
@@ -0,0 +1,127 @@
+package com.fintech.loadtest;
+
+import com.fintech.account.dto.TransferCompletedEvent;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.kafka.support.serializer.JacksonJsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Compares the producer defaults account-service used to run with against the tuned profile.
+ * Reports bytes sent to the broker and producer throughput for the same stream of events.
+ * Run with {@code mvn -f load-test/pom.xml exec:java -Dexec.mainClass=com.fintech.loadtest.ProducerBenchmark}.
+ */
+public class ProducerBenchmark {
+
+    private static final String TOPIC = "transfer.completed";
+
+    private record Profile(String name, Function<TransferCompletedEvent, String> key, Map<String, Object> settings) {}
+
+    public static void main(String[] args) {
+        int events = Integer.getInteger("benchmark.events", 200_000);
+        int accounts = Integer.getInteger("benchmark.accounts", 10_000);
+
+        // account-service only set serializers before, so the previous profile is the client's defaults
+        Profile[] profiles = {
+                new Profile("previous (client defaults, key=transactionId)", TransferCompletedEvent::transactionId, Map.of()),
+                new Profile("tuned lz4 (key=fromAccountId)", TransferCompletedEvent::fromAccountId, tuned("lz4")),
+                new Profile("tuned zstd (key=fromAccountId)", TransferCompletedEvent::fromAccountId, tuned("zstd"))
+        };
+
+        EmbeddedKafkaKraftBroker kafka = new EmbeddedKafkaKraftBroker(1, 3, TOPIC);
+        kafka.afterPropertiesSet();
+        try {
+            TransferCompletedEvent[] stream = events(events, accounts);
+
+            System.out.printf("%-48s %12s %14s %14s %10s%n", "profile", "records/s", "bytes sent", "bytes/record", "failures");
+            for (Profile profile : profiles) {
+                run(kafka.getBrokersAsString(), profile, stream);
+            }
+        } finally {
+            kafka.destroy();
+        }
+    }
+
+    private static Map<String, Object> tuned(String compression) {
+        return Map.of(
+                ProducerConfig.ACKS_CONFIG, "all",
+                ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true,
+                ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5,
+                ProducerConfig.COMPRESSION_TYPE_CONFIG, compression,
+                ProducerConfig.LINGER_MS_CONFIG, 10,
+                ProducerConfig.BATCH_SIZE_CONFIG, 65_536
+        );
+    }
+
+    private static void run(String bootstrapServers, Profile profile, TransferCompletedEvent[] stream) {
+        Map<String, Object> config = new HashMap<>(profile.settings());
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+
+        LongAdder failures = new LongAdder();
+        try (KafkaProducer<String, TransferCompletedEvent> producer =
+                     new KafkaProducer<>(config, new StringSerializer(), new JacksonJsonSerializer<>())) {
+
+            long start = System.nanoTime();
+            for (TransferCompletedEvent event : stream) {
+                producer.send(new ProducerRecord<>(TOPIC, profile.key().apply(event), event), (metadata, ex) -> {
+                    if (ex != null) {
+                        failures.increment();
+                    }
+                });
+            }
+            producer.flush();
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            double bytesSent = metric(producer.metrics(), "outgoing-byte-total");
+            System.out.printf("%-48s %12.0f %14.0f %14.1f %10d%n",
+                    profile.name(),
+                    stream.length / seconds,
+                    bytesSent,
+                    bytesSent / stream.length,
+                    failures.sum());
+        }
+    }
+
+    private static TransferCompletedEvent[] events(int count, int accounts) {
+        SplittableRandom random = new SplittableRandom(42);
+        ZipfDistribution popularity = new ZipfDistribution(accounts, 1.1);
+
+        String[] accountIds = new String[accounts];
+        for (int i = 0; i < accounts; i++) {
+            accountIds[i] = UUID.randomUUID().toString();
+        }
+
+        TransferCompletedEvent[] events = new TransferCompletedEvent[count];
+        for (int i = 0; i < count; i++) {
+            events[i] = new TransferCompletedEvent(
+                    UUID.randomUUID().toString(),
+                    accountIds[popularity.sample(random)],
+                    accountIds[popularity.sample(random)],
+                    BigDecimal.valueOf(random.nextLong(1, 100_000), 2).toString(),
+                    BigDecimal.valueOf(random.nextLong(1, 10_000_000), 2).toString(),
+                    BigDecimal.valueOf(random.nextLong(1, 10_000_000), 2).toString()
+            );
+        }
+        return events;
+    }
+
+    private static double metric(Map<MetricName, ? extends Metric> metrics, String name) {
+        return metrics.entrySet().stream()
+                .filter(entry -> entry.getKey().group().equals("producer-metrics") && entry.getKey().name().equals(name))
+                .mapToDouble(entry -> ((Number) entry.getValue().metricValue()).doubleValue())
+                .findFirst()
+                .orElse(0);
+    }
+}
@@ -0,0 +1,94 @@
+package com.fintech.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * A service launched from its executable jar in a JVM of its own, so it loads the
+ * {@code application.yaml} it ships with. Output goes to {@code target/loadtest/<name>.log}.
+ */
+public class ServiceProcess implements AutoCloseable {
+
+    // Launches any Spring Boot executable jar and honours loader.path for extra jars, e.g. a JDBC driver
+    private static final String LAUNCHER = "org.springframework.boot.loader.launch.PropertiesLauncher";
+    private static final Path LOG_DIRECTORY = Path.of("target", "loadtest");
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final String name;
+    private final Path log;
+    private final Process process;
+
+    private ServiceProcess(String name, Path log, Process process) {
+        this.name = name;
+        this.log = log;
+        this.process = process;
+    }
+
+    public static ServiceProcess start(String name, Path jar, List<Path> loaderPath, List<String> arguments) throws IOException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(name + " jar not found at " + jar.toAbsolutePath()
+                    + ", build it first with mvn package -DskipTests");
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (!loaderPath.isEmpty()) {
+            command.add("-Dloader.path=" + loaderPath.stream()
+                    .map(Path::toString)
+                    .collect(Collectors.joining(",")));
+        }
+        command.add("-cp");
+        command.add(jar.toString());
+        command.add(LAUNCHER);
+        command.addAll(arguments);
+
+        Files.createDirectories(LOG_DIRECTORY);
+        Path log = LOG_DIRECTORY.resolve(name + ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        return new ServiceProcess(name, log, process);
+    }
+
+    /**
+     * @throws IllegalStateException if the process has already exited
+     */
+    public void checkAlive() {
+        if (!process.isAlive()) {
+            throw new IllegalStateException(name + " exited with code " + process.exitValue()
+                    + ", see " + log.toAbsolutePath());
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public static Path jarOf(Class<?> type) {
+        try {
+            return Path.of(type.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (Exception ex) {
+            throw new IllegalStateException("Cannot locate the jar of " + type.getName(), ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        // SIGTERM, so the service shuts down gracefully and flushes its producers
+        process.destroy();
+        try {
+            if (!process.waitFor(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            process.destroyForcibly();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.fintech.loadtest;
+
+import com.fintech.account.velocity.VelocityProperties;
+import com.fintech.account.velocity.VelocityReservation;
+import com.fintech.account.velocity.VelocityService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the transfer velocity reservation with the sender table filled up to 2M senders, well
+ * past the default cap, so raising {@code velocity.max-tracked-accounts} can be judged on numbers.
+ * JMH is an ordinary dependency of this module, so it resolves from the same offline cache as the
+ * rest of the build. Run with {@code mvn -f load-test/pom.xml compile exec:exec -Dexec.executable=java
+ * -Dexec.args="-cp %classpath org.openjdk.jmh.Main VelocityBenchmark"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+// 2M senders with three pairs each hold about 1.7 GB
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class VelocityBenchmark {
+
+    private static final BigDecimal AMOUNT = new BigDecimal("10.00");
+
+    @Param({"100000", "250000", "1000000", "2000000"})
+    private int activeAccounts;
+
+    private VelocityService velocityService;
+    private UUID[] accounts;
+
+    @Setup
+    public void setUp() {
+        // Limits high enough that nothing is rejected: the benchmark measures the lookup and update path
+        VelocityProperties properties = new VelocityProperties(
+                true,
+                Duration.ofHours(1),
+                12,
+                Integer.MAX_VALUE,
+                new BigDecimal("1000000000000.00"),
+                Integer.MAX_VALUE,
+                new BigDecimal("1000000000000.00"),
+                Duration.ofDays(30),
+                activeAccounts,
+                activeAccounts * 3
+        );
+        velocityService = new VelocityService(properties, new SimpleMeterRegistry());
+
+        accounts = new UUID[activeAccounts];
+        for (int i = 0; i < activeAccounts; i++) {
+            accounts[i] = UUID.randomUUID();
+        }
+        for (int i = 0; i < activeAccounts; i++) {
+            velocityService.reserve(accounts[i], accounts[(i + 1) % activeAccounts], AMOUNT);
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public VelocityReservation reserve() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return velocityService.reserve(accounts[random.nextInt(activeAccounts)], accounts[random.nextInt(activeAccounts)], AMOUNT);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public VelocityReservation reserveContended() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return velocityService.reserve(accounts[random.nextInt(activeAccounts)], accounts[random.nextInt(activeAccounts)], AMOUNT);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void reserveAndRelease() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        UUID from = accounts[random.nextInt(activeAccounts)];
+        UUID to = accounts[random.nextInt(activeAccounts)];
+
+        velocityService.reserve(from, to, AMOUNT).release();
+    }
+}
@@ -0,0 +1,28 @@
+package com.fintech.loadtest;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+public class ZipfDistribution {
+
+    private final double[] cdf;
+
+    public ZipfDistribution(int size, double exponent) {
+        this.cdf = new double[size];
+
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cdf[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cdf[rank] /= sum;
+        }
+    }
+
+    public int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cdf.length - 1);
+    }
+}
@@ -0,0 +1,39 @@
+package com.fintech.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadTestHarnessTests {
+
+	@Test
+	void shortRunDeliversTransferEvents() {
+		// Falls back to system properties for the jar locations set by the failsafe configuration
+		Properties properties = new Properties(System.getProperties());
+		properties.setProperty("loadtest.rate", "50");
+		properties.setProperty("loadtest.duration-seconds", "5");
+		properties.setProperty("loadtest.warmup-seconds", "1");
+		properties.setProperty("loadtest.accounts", "50");
+		properties.setProperty("loadtest.jdbc-url", "jdbc:h2:mem:loadtest;MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+		properties.setProperty("loadtest.jdbc-username", "sa");
+		properties.setProperty("loadtest.jdbc-password", "");
+		LoadTestConfig config = LoadTestConfig.from(properties);
+
+		try (LoadTestEnvironment environment = LoadTestEnvironment.start(config)) {
+			LoadGenerator generator = new LoadGenerator(config, environment.accountServiceUrl());
+
+			List<UUID> accounts = generator.seedAccounts();
+			LoadTestReport report = generator.run(accounts, environment.deliveries());
+			report.print(System.out, false);
+
+			assertThat(report.successfulRequests()).isPositive();
+			assertThat(report.deliveredEvents()).isPositive();
+			assertThat(report.deliveredEvents()).isGreaterThanOrEqualTo(report.expectedDeliveries());
+		}
+	}
+
+}
@@ -0,0 +1,28 @@
+package com.notification_service.notification_service.config;
+
+import com.notification_service.notification_service.consumer.AccountBalanceConsumer;
+import com.notification_service.notification_service.consumer.TransferEventConsumer;
+import com.notification_service.notification_service.event.AccountBalanceEvent;
+import com.notification_service.notification_service.event.TransferCompletedEvent;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@RegisterReflectionForBinding({
+        TransferCompletedEvent.class,
+        AccountBalanceEvent.class
+})
+public class StartupConfig {
+
+    // @KafkaListener methods are only registered for beans that get instantiated,
+    // so the consumers must stay eager when lazy initialization is on
+    @Bean
+    static LazyInitializationExcludeFilter eagerConsumers() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                TransferEventConsumer.class,
+                AccountBalanceConsumer.class
+        );
+    }
+}
@@ -0,0 +1,64 @@
+package com.notification_service.notification_service.consumer;
+
+import com.notification_service.notification_service.event.AccountBalanceEvent;
+import com.notification_service.notification_service.projection.AccountBalanceView;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class AccountBalanceConsumer implements ConsumerSeekAware {
+
+    private final AccountBalanceView view;
+    private final String topic;
+    private final Map<Integer, Long> nextOffsets = new ConcurrentHashMap<>();
+
+    public AccountBalanceConsumer(AccountBalanceView view, @Value("${notification.balance-view.topic:account.balance}") String topic) {
+        this.view = view;
+        this.topic = topic;
+    }
+
+    @KafkaListener(
+            topics = "${notification.balance-view.topic:account.balance}",
+            groupId = "${notification.balance-view.group-id:notification-balance-view-${random.uuid}}",
+            containerFactory = "balanceViewContainerFactory",
+            properties = {
+                    "enable.auto.commit=false",
+                    "spring.json.value.default.type=com.notification_service.notification_service.event.AccountBalanceEvent"
+            }
+    )
+    public void listen(ConsumerRecord<String, AccountBalanceEvent> record) {
+        if (record.value() != null) {
+            view.apply(record.value());
+        }
+        nextOffsets.put(record.partition(), record.offset() + 1);
+    }
+
+    // The view lives in memory, so every instance rebuilds it from the start of the topic.
+    // Records are never acknowledged, so nothing is committed for the per-instance group.
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerCallback callback) {
+        callback.seekToBeginning(assignments.keySet());
+    }
+
+    public String topic() {
+        return topic;
+    }
+
+    /**
+     * @return whether the view has applied every record up to the given end offsets
+     */
+    public boolean hasCaughtUp(Map<TopicPartition, Long> beginningOffsets, Map<TopicPartition, Long> endOffsets) {
+        return endOffsets.entrySet().stream().allMatch(end -> {
+            long beginning = beginningOffsets.getOrDefault(end.getKey(), 0L);
+            return end.getValue() <= beginning
+                    || nextOffsets.getOrDefault(end.getKey().partition(), beginning) >= end.getValue();
+        });
+    }
+}
@@ -1,14 +1,25 @@
 package com.notification_service.notification_service.consumer;
 
 import com.notification_service.notification_service.event.TransferCompletedEvent;
+import com.notification_service.notification_service.service.TransferNotificationService;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Service;
 
 @Service
 public class TransferEventConsumer {
 
-    @KafkaListener(topics = "transfer.completed", groupId = "notification-service-group")
+    private final TransferNotificationService notificationService;
+
+    public TransferEventConsumer(TransferNotificationService notificationService) {
+        this.notificationService = notificationService;
+    }
+
+    @KafkaListener(
+            topics = "transfer.completed",
+            groupId = "notification-service-group",
+            autoStartup = "${notification.transfer-listener.auto-startup:true}"
+    )
     public void listen(TransferCompletedEvent event) {
-        System.out.println("Transfer completed of id: " + event.transactionId());
+        notificationService.notify(event);
     }
 }
@@ -0,0 +1,9 @@
+package com.notification_service.notification_service.event;
+
+import java.math.BigDecimal;
+
+public record AccountBalanceEvent(String accountId,
+                                  BigDecimal balance,
+                                  String status,
+                                  long version) {
+}
@@ -4,6 +4,8 @@ import java.math.BigDecimal;
 
 public record TransferCompletedEvent(String transactionId,
                                      String fromAccountId,
-                                     String toAccountID,
-                                     BigDecimal amount) {
+                                     String toAccountId,
+                                     BigDecimal amount,
+                                     BigDecimal fromBalance,
+                                     BigDecimal toBalance) {
 }
@@ -0,0 +1,8 @@
+package com.notification_service.notification_service.projection;
+
+import java.math.BigDecimal;
+
+public record AccountBalance(BigDecimal balance,
+                             String status,
+                             long version) {
+}
@@ -0,0 +1,30 @@
+package com.notification_service.notification_service.projection;
+
+import com.notification_service.notification_service.event.AccountBalanceEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class AccountBalanceView {
+
+    private final Map<String, AccountBalance> balances = new ConcurrentHashMap<>();
+
+    public void apply(AccountBalanceEvent event) {
+        AccountBalance update = new AccountBalance(event.balance(), event.status(), event.version());
+
+        // Replays and redeliveries can hand us an older version than the one already applied
+        balances.merge(event.accountId(), update,
+                (current, incoming) -> incoming.version() > current.version() ? incoming : current);
+    }
+
+    public Optional<AccountBalance> find(String accountId) {
+        return Optional.ofNullable(balances.get(accountId));
+    }
+
+    public int size() {
+        return balances.size();
+    }
+}
@@ -0,0 +1,28 @@
+package com.notification_service.notification_service.replay;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * @param resume            continue each partition from the offset the replay group last committed,
+ *                          when it lies inside the requested range; use another group id to start over
+ * @param viewWarmupTimeout how long to wait for the balance view to catch up before replaying
+ */
+@ConfigurationProperties(prefix = "notification.replay")
+public record ReplayProperties(
+        @DefaultValue("false") boolean enabled,
+        Instant from,
+        Instant to,
+        @DefaultValue("transfer.completed") String topic,
+        @DefaultValue("notification-replay") String groupId,
+        @DefaultValue("8") int parallelism,
+        @DefaultValue("2000") int maxPollRecords,
+        @DefaultValue("100000") int dedupeWindow,
+        @DefaultValue("10s") Duration progressInterval,
+        @DefaultValue("true") boolean exitOnCompletion,
+        @DefaultValue("true") boolean resume,
+        @DefaultValue("5m") Duration viewWarmupTimeout
+) {}
@@ -0,0 +1,300 @@
+package com.notification_service.notification_service.replay;
+
+import com.notification_service.notification_service.consumer.AccountBalanceConsumer;
+import com.notification_service.notification_service.event.TransferCompletedEvent;
+import com.notification_service.notification_service.service.TransferNotificationService;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JacksonJsonDeserializer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Backfill mode: replays transfer events from a point in time with one consumer per partition,
+ * under its own consumer group so the live group's offsets and assignments are left alone.
+ * Enabled with the {@code replay} profile and {@code notification.replay.from}:
+ * <pre>
+ * java -jar target/notification-service-0.0.1-SNAPSHOT-exec.jar --spring.profiles.active=replay --notification.replay.from=2025-01-01T00:00:00Z
+ * </pre>
+ * Offsets are committed per batch, so a run that stops halfway picks up where it left off.
+ */
+@Component
+@ConditionalOnProperty(prefix = "notification.replay", name = "enabled", havingValue = "true")
+public class TransferReplayRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferReplayRunner.class);
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    private static final Duration VIEW_CHECK_INTERVAL = Duration.ofMillis(200);
+
+    record PartitionRange(TopicPartition partition, long start, long end) {}
+
+    private final ConsumerFactory<String, TransferCompletedEvent> consumerFactory;
+    private final TransferNotificationService notificationService;
+    private final AccountBalanceConsumer balanceConsumer;
+    private final ReplayProperties properties;
+    private final ConfigurableApplicationContext context;
+
+    private final LongAdder consumed = new LongAdder();
+    private final LongAdder notified = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public TransferReplayRunner(ConsumerFactory<String, TransferCompletedEvent> consumerFactory, TransferNotificationService notificationService, AccountBalanceConsumer balanceConsumer, ReplayProperties properties, ConfigurableApplicationContext context) {
+        this.consumerFactory = consumerFactory;
+        this.notificationService = notificationService;
+        this.balanceConsumer = balanceConsumer;
+        this.properties = properties;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (properties.from() == null) {
+            throw new IllegalStateException("notification.replay.from is required in replay mode");
+        }
+
+        List<PartitionRange> ranges;
+        try (Consumer<String, TransferCompletedEvent> consumer = createConsumer("range")) {
+            awaitBalanceView(consumer);
+            ranges = resolveRanges(consumer);
+        }
+        long total = ranges.stream().mapToLong(range -> range.end() - range.start()).sum();
+        log.info("Replaying {} records of {} from {} to {} across {} partitions",
+                total, properties.topic(), properties.from(), properties.to() == null ? "now" : properties.to(), ranges.size());
+
+        long startNanos = System.nanoTime();
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor();
+        reporter.scheduleAtFixedRate(() -> logProgress(total, startNanos),
+                properties.progressInterval().toMillis(), properties.progressInterval().toMillis(), TimeUnit.MILLISECONDS);
+
+        boolean succeeded = true;
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, Math.min(properties.parallelism(), ranges.size())));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (PartitionRange range : ranges) {
+                futures.add(workers.submit(() -> {
+                    try (Consumer<String, TransferCompletedEvent> consumer = createConsumer(String.valueOf(range.partition().partition()))) {
+                        replayPartition(consumer, range);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception ex) {
+                    succeeded = false;
+                    log.error("Replay of a partition failed", ex);
+                }
+            }
+        } finally {
+            workers.shutdownNow();
+            reporter.shutdownNow();
+        }
+
+        logProgress(total, startNanos);
+        log.info("Replay {}: {} notified, {} duplicates skipped, {} unreadable records",
+                succeeded ? "finished" : "finished with errors", notified.sum(), duplicates.sum(), failed.sum());
+
+        if (properties.exitOnCompletion()) {
+            int exitCode = succeeded ? 0 : 1;
+            System.exit(SpringApplication.exit(context, () -> exitCode));
+        }
+    }
+
+    /**
+     * Notifications fall back to the balance view for events without balances, so the view has to
+     * catch up with the balance topic first or those notifications go out with stale balances.
+     */
+    private void awaitBalanceView(Consumer<?, ?> consumer) throws InterruptedException {
+        List<TopicPartition> partitions = partitionsOf(consumer, balanceConsumer.topic());
+        Map<TopicPartition, Long> beginningOffsets = consumer.beginningOffsets(partitions);
+        Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+
+        long deadline = System.nanoTime() + properties.viewWarmupTimeout().toNanos();
+        while (!balanceConsumer.hasCaughtUp(beginningOffsets, endOffsets)) {
+            if (System.nanoTime() > deadline) {
+                log.warn("Balance view did not catch up with {} within {}, replaying anyway",
+                        balanceConsumer.topic(), properties.viewWarmupTimeout());
+                return;
+            }
+            Thread.sleep(VIEW_CHECK_INTERVAL.toMillis());
+        }
+        log.info("Balance view caught up with {}", balanceConsumer.topic());
+    }
+
+    List<PartitionRange> resolveRanges(Consumer<?, ?> consumer) {
+        List<TopicPartition> partitions = partitionsOf(consumer, properties.topic());
+
+        Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+        Map<TopicPartition, Long> starts = offsetsAt(consumer, partitions, properties.from(), endOffsets);
+        Map<TopicPartition, Long> ends = properties.to() == null
+                ? endOffsets
+                : offsetsAt(consumer, partitions, properties.to(), endOffsets);
+        Map<TopicPartition, OffsetAndMetadata> committed = properties.resume()
+                ? consumer.committed(Set.copyOf(partitions))
+                : Map.of();
+
+        return partitions.stream()
+                .map(partition -> new PartitionRange(partition,
+                        resumeFrom(partition, starts.get(partition), ends.get(partition), committed.get(partition)),
+                        ends.get(partition)))
+                .filter(range -> range.start() < range.end())
+                .toList();
+    }
+
+    // A commit outside the range belongs to an earlier run over other timestamps
+    private long resumeFrom(TopicPartition partition, long start, long end, OffsetAndMetadata committed) {
+        if (committed == null || committed.offset() <= start || committed.offset() > end) {
+            return start;
+        }
+        log.info("Resuming {} at offset {} instead of {}", partition, committed.offset(), start);
+        return committed.offset();
+    }
+
+    private static List<TopicPartition> partitionsOf(Consumer<?, ?> consumer, String topic) {
+        return consumer.partitionsFor(topic).stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+    }
+
+    private Map<TopicPartition, Long> offsetsAt(Consumer<?, ?> consumer, List<TopicPartition> partitions, Instant time, Map<TopicPartition, Long> endOffsets) {
+        Map<TopicPartition, Long> query = partitions.stream()
+                .collect(Collectors.toMap(Function.identity(), partition -> time.toEpochMilli()));
+        Map<TopicPartition, OffsetAndTimestamp> found = consumer.offsetsForTimes(query);
+
+        // A partition with no record at or after the timestamp has nothing left to replay
+        return partitions.stream()
+                .collect(Collectors.toMap(Function.identity(), partition -> found.get(partition) != null
+                        ? found.get(partition).offset()
+                        : endOffsets.get(partition)));
+    }
+
+    void replayPartition(Consumer<String, TransferCompletedEvent> consumer, PartitionRange range) {
+        TopicPartition partition = range.partition();
+        RecentTransactions seen = new RecentTransactions(properties.dedupeWindow());
+
+        consumer.assign(List.of(partition));
+        consumer.seek(partition, range.start());
+
+        long position = range.start();
+        while (position < range.end() && !Thread.currentThread().isInterrupted()) {
+            ConsumerRecords<String, TransferCompletedEvent> records = consumer.poll(POLL_TIMEOUT);
+
+            for (ConsumerRecord<String, TransferCompletedEvent> record : records) {
+                if (record.offset() >= range.end()) {
+                    break;
+                }
+                consumed.increment();
+                handle(record.value(), seen);
+            }
+
+            position = consumer.position(partition);
+            if (!records.isEmpty()) {
+                consumer.commitSync(Map.of(partition, new OffsetAndMetadata(Math.min(position, range.end()))));
+            }
+        }
+    }
+
+    long notified() {
+        return notified.sum();
+    }
+
+    long duplicates() {
+        return duplicates.sum();
+    }
+
+    long failed() {
+        return failed.sum();
+    }
+
+    private void handle(TransferCompletedEvent event, RecentTransactions seen) {
+        if (event == null) {
+            failed.increment();
+            return;
+        }
+        if (!seen.add(event.transactionId())) {
+            duplicates.increment();
+            return;
+        }
+        notificationService.notify(event);
+        notified.increment();
+    }
+
+    private Consumer<String, TransferCompletedEvent> createConsumer(String clientIdSuffix) {
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.maxPollRecords());
+        overrides.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, 1_048_576);
+        overrides.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, 500);
+        // An unreadable record is counted and skipped instead of stopping the whole backfill
+        overrides.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        overrides.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JacksonJsonDeserializer.class);
+
+        return consumerFactory.createConsumer(properties.groupId(), properties.groupId(), "-" + clientIdSuffix, overrides);
+    }
+
+    private void logProgress(long total, long startNanos) {
+        double seconds = Math.max(0.001, (System.nanoTime() - startNanos) / 1e9);
+        long done = consumed.sum();
+        log.info("Replay progress: {} of {} records ({}%), {} records/s, {} duplicates, {} unreadable",
+                done,
+                total,
+                total == 0 ? 100 : done * 100 / total,
+                Math.round(done / seconds),
+                duplicates.sum(),
+                failed.sum());
+    }
+
+    /**
+     * Bounded per-partition memory of recent transaction ids. Duplicates come from producer
+     * retries and sit close to the original on the same partition, so a window is enough.
+     */
+    private static final class RecentTransactions extends LinkedHashMap<String, Boolean> {
+
+        private final int capacity;
+
+        private RecentTransactions(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private boolean add(String transactionId) {
+            return put(transactionId, Boolean.TRUE) == null;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > capacity;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.notification_service.notification_service.service;
+
+import com.notification_service.notification_service.event.TransferCompletedEvent;
+import com.notification_service.notification_service.projection.AccountBalance;
+import com.notification_service.notification_service.projection.AccountBalanceView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+
+@Service
+public class TransferNotificationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferNotificationService.class);
+
+    private final AccountBalanceView balanceView;
+
+    public TransferNotificationService(AccountBalanceView balanceView) {
+        this.balanceView = balanceView;
+    }
+
+    public void notify(TransferCompletedEvent event) {
+        log.info("Transfer completed of id: {}, sender balance: {}, receiver balance: {}",
+                event.transactionId(),
+                balance(event.fromAccountId(), event.fromBalance()),
+                balance(event.toAccountId(), event.toBalance()));
+    }
+
+    private BigDecimal balance(String accountId, BigDecimal fromEvent) {
+        if (fromEvent != null) {
+            return fromEvent;
+        }
+        return balanceView.find(accountId)
+                .map(AccountBalance::balance)
+                .orElse(null);
+    }
+}
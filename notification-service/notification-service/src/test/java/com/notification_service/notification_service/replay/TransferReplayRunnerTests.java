@@ -0,0 +1,147 @@
+package com.notification_service.notification_service.replay;
+
+import com.notification_service.notification_service.consumer.AccountBalanceConsumer;
+import com.notification_service.notification_service.event.TransferCompletedEvent;
+import com.notification_service.notification_service.service.TransferNotificationService;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TransferReplayRunnerTests {
+
+	private static final String TOPIC = "transfer.completed";
+	private static final TopicPartition P0 = new TopicPartition(TOPIC, 0);
+	private static final TopicPartition P1 = new TopicPartition(TOPIC, 1);
+	private static final Instant FROM = Instant.parse("2025-01-01T00:00:00Z");
+	private static final Instant TO = Instant.parse("2025-01-02T00:00:00Z");
+
+	private final TransferNotificationService notificationService = mock(TransferNotificationService.class);
+
+	@Test
+	void rangesRunFromTheStartTimestampToTheEndTimestamp() {
+		Consumer<?, ?> consumer = rangeConsumer(Map.of(P0, 100L, P1, 50L));
+		offsetsAt(consumer, FROM, Map.of(P0, 10L, P1, 20L));
+		offsetsAt(consumer, TO, Map.of(P0, 40L, P1, 30L));
+
+		List<TransferReplayRunner.PartitionRange> ranges = runner(TO, false).resolveRanges(consumer);
+
+		assertThat(ranges).containsExactly(
+				new TransferReplayRunner.PartitionRange(P0, 10, 40),
+				new TransferReplayRunner.PartitionRange(P1, 20, 30));
+	}
+
+	@Test
+	void partitionsWithoutRecordsAfterATimestampFallBackToTheEndOffset() {
+		Consumer<?, ?> consumer = rangeConsumer(Map.of(P0, 100L, P1, 50L));
+		offsetsAt(consumer, FROM, Map.of(P0, 10L));
+
+		List<TransferReplayRunner.PartitionRange> ranges = runner(null, false).resolveRanges(consumer);
+
+		assertThat(ranges).containsExactly(new TransferReplayRunner.PartitionRange(P0, 10, 100));
+	}
+
+	@Test
+	void resumeStartsFromCommitsInsideTheRangeOnly() {
+		Consumer<?, ?> consumer = rangeConsumer(Map.of(P0, 100L, P1, 50L));
+		offsetsAt(consumer, FROM, Map.of(P0, 10L, P1, 20L));
+		when(consumer.committed(Set.of(P0, P1))).thenReturn(Map.of(
+				P0, new OffsetAndMetadata(60),
+				P1, new OffsetAndMetadata(5)));
+
+		List<TransferReplayRunner.PartitionRange> ranges = runner(null, true).resolveRanges(consumer);
+
+		assertThat(ranges).containsExactly(
+				new TransferReplayRunner.PartitionRange(P0, 60, 100),
+				new TransferReplayRunner.PartitionRange(P1, 20, 50));
+	}
+
+	@Test
+	void replayStopsAtTheEndOffsetAndCommitsIt() {
+		MockConsumer<String, TransferCompletedEvent> consumer = new MockConsumer<>("earliest");
+		records(consumer, event("a"), event("b"), event("c"), event("d"), event("e"));
+		TransferReplayRunner runner = runner(null, false);
+
+		runner.replayPartition(consumer, new TransferReplayRunner.PartitionRange(P0, 1, 3));
+
+		assertThat(runner.notified()).isEqualTo(2);
+		verify(notificationService).notify(event("b"));
+		verify(notificationService).notify(event("c"));
+		assertThat(consumer.committed(Set.of(P0)).get(P0).offset()).isEqualTo(3);
+	}
+
+	@Test
+	void duplicatesAreSkippedAndUnreadableRecordsCounted() {
+		MockConsumer<String, TransferCompletedEvent> consumer = new MockConsumer<>("earliest");
+		records(consumer, event("a"), event("b"), event("a"), null, event("b"));
+		TransferReplayRunner runner = runner(null, false);
+
+		runner.replayPartition(consumer, new TransferReplayRunner.PartitionRange(P0, 0, 5));
+
+		verify(notificationService, times(1)).notify(event("a"));
+		verify(notificationService, times(1)).notify(event("b"));
+		assertThat(runner.notified()).isEqualTo(2);
+		assertThat(runner.duplicates()).isEqualTo(2);
+		assertThat(runner.failed()).isEqualTo(1);
+	}
+
+	private TransferReplayRunner runner(Instant to, boolean resume) {
+		ReplayProperties properties = new ReplayProperties(
+				true, FROM, to, TOPIC, "notification-replay", 1, 100, 1000,
+				Duration.ofSeconds(10), false, resume, Duration.ofSeconds(1));
+		return new TransferReplayRunner(null, notificationService, mock(AccountBalanceConsumer.class), properties, null);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Consumer<?, ?> rangeConsumer(Map<TopicPartition, Long> endOffsets) {
+		Consumer<String, TransferCompletedEvent> consumer = mock(Consumer.class);
+		when(consumer.partitionsFor(TOPIC)).thenReturn(List.of(
+				new PartitionInfo(TOPIC, 0, Node.noNode(), new Node[0], new Node[0]),
+				new PartitionInfo(TOPIC, 1, Node.noNode(), new Node[0], new Node[0])));
+		when(consumer.endOffsets(any())).thenReturn(endOffsets);
+		when(consumer.offsetsForTimes(anyMap())).thenReturn(Map.of());
+		return consumer;
+	}
+
+	private static void offsetsAt(Consumer<?, ?> consumer, Instant time, Map<TopicPartition, Long> offsets) {
+		Map<TopicPartition, OffsetAndTimestamp> found = new HashMap<>();
+		offsets.forEach((partition, offset) -> found.put(partition, new OffsetAndTimestamp(offset, time.toEpochMilli())));
+		when(consumer.offsetsForTimes(argThat(query -> query != null && query.containsValue(time.toEpochMilli()))))
+				.thenReturn(found);
+	}
+
+	// Records are added once replayPartition has assigned the partition, as MockConsumer requires
+	private static void records(MockConsumer<String, TransferCompletedEvent> consumer, TransferCompletedEvent... events) {
+		consumer.schedulePollTask(() -> {
+			for (int offset = 0; offset < events.length; offset++) {
+				consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, offset, null, events[offset]));
+			}
+		});
+	}
+
+	private static TransferCompletedEvent event(String transactionId) {
+		return new TransferCompletedEvent(transactionId, "from", "to", null, null, null);
+	}
+
+}
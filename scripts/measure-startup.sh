@@ -0,0 +1,128 @@
+#!/usr/bin/env bash
+#
+# Measures time-to-first-request and resident memory of a service in each startup mode.
+#
+#   scripts/measure-startup.sh account-service|notification-service [mode ...]
+#
+# Modes: jvm (defaults), prod (startup profile), prod-cds (prod plus an AppCDS archive), native,
+# and prod-eager, prod-metadata and prod-flyway, which each turn one prod setting back to its
+# default (lazy initialization, JDBC metadata access, Flyway) so its share can be read off the
+# difference with prod. FORMAT=markdown prints the table ready to paste into a README or commit.
+#
+# Postgres and Kafka from docker-compose.yml must be running and the schema migrated
+# (mvn -f account-service/account-service/pom.xml flyway:migrate). Build the jar with
+# `mvn package -DskipTests` and, for the native mode, the binary with `mvn -Pnative native:compile`.
+# account-service is ready when GET /api/v1/accounts answers, notification-service when the
+# "Started" line is logged.
+
+set -euo pipefail
+
+SERVICE=${1:?usage: $0 account-service|notification-service [modes...]}
+shift
+if [[ $# -gt 0 ]]; then
+    MODES=("$@")
+else
+    MODES=(jvm prod prod-eager prod-metadata prod-flyway prod-cds native)
+fi
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+MODULE="$ROOT/$SERVICE/$SERVICE"
+TARGET="$MODULE/target"
+JAR=$(ls "$TARGET"/"$SERVICE"-*-exec.jar 2>/dev/null | head -n 1 || true)
+WORK="$TARGET/startup"
+LOG="$WORK/run.log"
+PORT=8081
+
+FORMAT=${FORMAT:-text}
+
+for mode in "${MODES[@]}"; do
+    if [[ "$mode" != "native" && -z "$JAR" ]]; then
+        echo "no $SERVICE exec jar in $TARGET, build it with mvn package -DskipTests" >&2
+        exit 1
+    fi
+done
+
+mkdir -p "$WORK"
+
+now_ms() {
+    date +%s%3N
+}
+
+wait_ready() {
+    local pid=$1
+    for _ in $(seq 1 1200); do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "process exited, see $LOG" >&2
+            return 1
+        fi
+        if [[ "$SERVICE" == "account-service" ]]; then
+            curl -sf -o /dev/null "http://localhost:$PORT/api/v1/accounts?size=1" && return 0
+        else
+            grep -q "Started NotificationServiceApplication" "$LOG" && return 0
+        fi
+        sleep 0.05
+    done
+    echo "timed out waiting for $SERVICE" >&2
+    return 1
+}
+
+prepare_cds() {
+    local extracted="$WORK/extracted"
+    if [[ ! -f "$WORK/app.jsa" ]]; then
+        rm -rf "$extracted"
+        java -Djarmode=tools -jar "$JAR" extract --destination "$extracted" >/dev/null
+        java -XX:ArchiveClassesAtExit="$WORK/app.jsa" -Dspring.context.exit=onRefresh \
+            -Dspring.profiles.active=prod -jar "$extracted"/*.jar >/dev/null
+    fi
+}
+
+command_for() {
+    case "$1" in
+        jvm) echo "java -jar $JAR" ;;
+        prod) echo "java -Dspring.profiles.active=prod -jar $JAR" ;;
+        prod-eager) echo "java -Dspring.profiles.active=prod -Dspring.main.lazy-initialization=false -jar $JAR" ;;
+        prod-metadata) echo "java -Dspring.profiles.active=prod -Dspring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=true -jar $JAR" ;;
+        prod-flyway) echo "java -Dspring.profiles.active=prod -Dspring.flyway.enabled=true -jar $JAR" ;;
+        prod-cds)
+            prepare_cds
+            echo "java -XX:SharedArchiveFile=$WORK/app.jsa -Dspring.profiles.active=prod -jar $(ls "$WORK"/extracted/*.jar)"
+            ;;
+        native) echo "$TARGET/$SERVICE --spring.profiles.active=prod" ;;
+        *) echo "unknown mode $1" >&2; return 1 ;;
+    esac
+}
+
+row() {
+    if [[ "$FORMAT" == "markdown" ]]; then
+        printf "| %s | %s | %s |\n" "$1" "$2" "$3"
+    else
+        printf "%-14s %20s %12s\n" "$1" "$2" "$3"
+    fi
+}
+
+row "mode" "first request (ms)" "RSS (MB)"
+if [[ "$FORMAT" == "markdown" ]]; then
+    echo "|---|---:|---:|"
+fi
+for mode in "${MODES[@]}"; do
+    if [[ "$mode" == "native" && ! -x "$TARGET/$SERVICE" ]]; then
+        row "$mode" "not built" "-"
+        continue
+    fi
+
+    cmd=$(command_for "$mode")
+    start=$(now_ms)
+    $cmd >"$LOG" 2>&1 &
+    pid=$!
+
+    if wait_ready "$pid"; then
+        elapsed=$(( $(now_ms) - start ))
+        rss_kb=$(ps -o rss= -p "$pid" | tr -d ' ')
+        row "$mode" "$elapsed" "$(( rss_kb / 1024 ))"
+    else
+        row "$mode" "failed" "-"
+    fi
+
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+done